@@ -0,0 +1,93 @@
+package com.example.killBatch.benchmark;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Properties;
+import javax.sql.DataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+/**
+ * 벤치마크용 인메모리 H2 + JPA 환경
+ *
+ * - victims - JDBC Reader / Writer 대상 (SYSTEM_RANGE로 시드)
+ * - blocked_posts - JPA Reader / Writer 대상 (Hibernate가 엔티티 기준으로 생성)
+ */
+public class BenchmarkDatabase {
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final LocalContainerEntityManagerFactoryBean factoryBean;
+
+    public BenchmarkDatabase(String name) {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        this.dataSource = h2;
+        this.jdbcTemplate = new JdbcTemplate(h2);
+
+        Properties properties = new Properties();
+        properties.put("hibernate.hbm2ddl.auto", "create-drop");
+        properties.put("hibernate.jdbc.batch_size", "100");
+        properties.put("hibernate.order_inserts", "true");
+
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(h2);
+        factoryBean.setPackagesToScan("com.example.killBatch.jpaBatch");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaProperties(properties);
+        factoryBean.afterPropertiesSet();
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    public JdbcTemplate jdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    public EntityManagerFactory entityManagerFactory() {
+        return factoryBean.getObject();
+    }
+
+    public JpaTransactionManager transactionManager() {
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory());
+        transactionManager.setDataSource(dataSource);
+        return transactionManager;
+    }
+
+    public void seedVictims(int rows) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS victims");
+        jdbcTemplate.execute("""
+                CREATE TABLE victims (
+                    id BIGINT PRIMARY KEY,
+                    name VARCHAR(255),
+                    process_id VARCHAR(255),
+                    terminated_at TIMESTAMP,
+                    status VARCHAR(50)
+                )
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO victims
+                SELECT x, 'victim-' || x, 'pid-' || x, DATEADD('SECOND', x, TIMESTAMP '2024-01-01 00:00:00'), 'TERMINATED'
+                FROM SYSTEM_RANGE(1, ?)
+                """, rows);
+    }
+
+    public void seedBlockedPosts(int rows) {
+        jdbcTemplate.update("DELETE FROM blocked_posts");
+        jdbcTemplate.update("""
+                INSERT INTO blocked_posts (post_id, writer, title, report_count, block_score, blocked_at)
+                SELECT x, 'writer-' || MOD(x, 1000), 'title-' || x, MOD(x, 50), MOD(x, 100) / 10.0,
+                    DATEADD('SECOND', x, TIMESTAMP '2024-01-01 00:00:00')
+                FROM SYSTEM_RANGE(1, ?)
+                """, rows);
+    }
+
+    public void close() {
+        factoryBean.destroy();
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.killBatch.benchmark;
+
+import com.example.killBatch.jdbcBatch.IndexedBeanRowMapper;
+import com.example.killBatch.jdbcBatch.Victim;
+import com.example.killBatch.jpaBatch.BlockedPost;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.JpaCursorItemReader;
+import org.springframework.batch.item.database.JpaPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.batch.item.database.builder.JpaCursorItemReaderBuilder;
+import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * ItemReader 처리량 - 전체 데이터(ROWS건)를 open -> read 반복 -> close
+ *
+ * JDBC (victims) - cursor / paging x beanRowMapper / IndexedBeanRowMapper
+ * JPA (blocked_posts) - cursor / paging
+ *
+ * ops/s = 초당 읽은 아이템 수
+ * 실행: ./gradlew jmh -Pjmh.includes=ItemReaderBenchmark (gc 프로파일러 기본 적용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemReaderBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    @Param({"100", "1000"})
+    private int pageSize;
+
+    private BenchmarkDatabase database;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new BenchmarkDatabase("itemReaderBenchmark");
+        database.seedVictims(ROWS);
+        database.seedBlockedPosts(ROWS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void jdbcCursorBeanRowMapper(Blackhole blackhole) throws Exception {
+        drain(jdbcCursorReader(new BeanPropertyRowMapper<>(Victim.class)), blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void jdbcCursorIndexedRowMapper(Blackhole blackhole) throws Exception {
+        drain(jdbcCursorReader(IndexedBeanRowMapper.of(Victim.class)), blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void jdbcPagingBeanRowMapper(Blackhole blackhole) throws Exception {
+        drain(jdbcPagingReader(new BeanPropertyRowMapper<>(Victim.class)), blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void jdbcPagingIndexedRowMapper(Blackhole blackhole) throws Exception {
+        drain(jdbcPagingReader(IndexedBeanRowMapper.of(Victim.class)), blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void jpaCursor(Blackhole blackhole) throws Exception {
+        JpaCursorItemReader<BlockedPost> reader = new JpaCursorItemReaderBuilder<BlockedPost>()
+                .name("jpaCursor")
+                .entityManagerFactory(database.entityManagerFactory())
+                .queryString("SELECT b FROM BlockedPost b ORDER BY b.postId")
+                .build();
+        reader.afterPropertiesSet();
+        drain(reader, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void jpaPaging(Blackhole blackhole) throws Exception {
+        JpaPagingItemReader<BlockedPost> reader = new JpaPagingItemReaderBuilder<BlockedPost>()
+                .name("jpaPaging")
+                .entityManagerFactory(database.entityManagerFactory())
+                .queryString("SELECT b FROM BlockedPost b ORDER BY b.postId")
+                .pageSize(pageSize)
+                .build();
+        reader.afterPropertiesSet();
+        drain(reader, blackhole);
+    }
+
+    private JdbcCursorItemReader<Victim> jdbcCursorReader(RowMapper<Victim> rowMapper) throws Exception {
+        JdbcCursorItemReader<Victim> reader = new JdbcCursorItemReaderBuilder<Victim>()
+                .name("jdbcCursor")
+                .dataSource(database.dataSource())
+                .sql("SELECT id, name, process_id, terminated_at, status FROM victims ORDER BY id")
+                .fetchSize(pageSize)
+                .rowMapper(rowMapper)
+                .build();
+        reader.afterPropertiesSet();
+        return reader;
+    }
+
+    private JdbcPagingItemReader<Victim> jdbcPagingReader(RowMapper<Victim> rowMapper) throws Exception {
+        JdbcPagingItemReader<Victim> reader = new JdbcPagingItemReaderBuilder<Victim>()
+                .name("jdbcPaging")
+                .dataSource(database.dataSource())
+                .selectClause("SELECT id, name, process_id, terminated_at, status")
+                .fromClause("FROM victims")
+                .sortKeys(Map.of("id", Order.ASCENDING))
+                .pageSize(pageSize)
+                .rowMapper(rowMapper)
+                .build();
+        reader.afterPropertiesSet();
+        return reader;
+    }
+
+    private static <T> void drain(ItemStreamReader<T> reader, Blackhole blackhole) throws Exception {
+        reader.open(new ExecutionContext());
+        try {
+            T item;
+            while ((item = reader.read()) != null) {
+                blackhole.consume(item);
+            }
+        } finally {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.killBatch.benchmark;
+
+import com.example.killBatch.fileBatch.JsonLinesItemWriter;
+import com.example.killBatch.jdbcBatch.Victim;
+import com.example.killBatch.jpaBatch.BlockedPost;
+import com.example.killBatch.jpaBatch.StatelessSessionBlockedPostWriter;
+import com.example.killBatch.test.InFearLearnStudentsBrainWashJobConfig.BrainwashedVictim;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamWriter;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.JpaItemWriter;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.batch.item.database.builder.JpaItemWriterBuilder;
+import org.springframework.batch.item.file.FlatFileItemWriter;
+import org.springframework.batch.item.file.builder.FlatFileItemWriterBuilder;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * ItemWriter 처리량 - 청크(CHUNK_SIZE) 단위로 ROWS건 기록
+ *
+ * DB (청크마다 트랜잭션) - JdbcBatchItemWriter / JpaItemWriter / StatelessSessionBlockedPostWriter
+ * 파일 (JSONL) - FlatFileItemWriter + writeValueAsString / JsonLinesItemWriter
+ *
+ * 매 호출 전 대상 테이블, 파일을 비움 (Level.Invocation - 호출 1회가 수 ms 이상이므로 영향 작음)
+ * ops/s = 초당 기록한 아이템 수
+ * 실행: ./gradlew jmh -Pjmh.includes=ItemWriterBenchmark (gc 프로파일러 기본 적용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemWriterBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final int CHUNK_SIZE = 100;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private BenchmarkDatabase database;
+    private TransactionTemplate transactionTemplate;
+    private Path outputDirectory;
+
+    private List<Chunk<Victim>> victimChunks;
+    private List<Chunk<BrainwashedVictim>> brainwashedChunks;
+
+    private JdbcBatchItemWriter<Victim> jdbcBatchItemWriter;
+    private JpaItemWriter<BlockedPost> jpaItemWriter;
+    private StatelessSessionBlockedPostWriter statelessSessionWriter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = new BenchmarkDatabase("itemWriterBenchmark");
+        database.seedVictims(0);
+        transactionTemplate = new TransactionTemplate(database.transactionManager());
+        outputDirectory = Files.createTempDirectory("itemWriterBenchmark");
+
+        victimChunks = new ArrayList<>();
+        brainwashedChunks = new ArrayList<>();
+        for (int start = 1; start <= ROWS; start += CHUNK_SIZE) {
+            Chunk<Victim> victims = new Chunk<>();
+            Chunk<BrainwashedVictim> brainwashed = new Chunk<>();
+            for (long id = start; id < start + CHUNK_SIZE; id++) {
+                Victim victim = new Victim();
+                victim.setId(id);
+                victim.setName("victim-" + id);
+                victim.setProcessId("pid-" + id);
+                victim.setTerminatedAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(id));
+                victim.setStatus("TERMINATED");
+                victims.add(victim);
+
+                brainwashed.add(BrainwashedVictim.builder()
+                        .victimId(id)
+                        .originalLecture("스프링 배치 " + id)
+                        .originalInstructor("강사-" + (id % 100))
+                        .brainwashMessage("무지를 살해하라... 배치의 세계가 기다린다 💀")
+                        .newMaster("KILL-9")
+                        .conversionMethod("MURDER_YOUR_IGNORANCE")
+                        .brainwashStatus("MIND_CONTROLLED")
+                        .nextAction("ENROLL_KILL9_BATCH_COURSE")
+                        .build());
+            }
+            victimChunks.add(victims);
+            brainwashedChunks.add(brainwashed);
+        }
+
+        jdbcBatchItemWriter = new JdbcBatchItemWriterBuilder<Victim>()
+                .dataSource(database.dataSource())
+                .sql("INSERT INTO victims (id, name, process_id, terminated_at, status) "
+                        + "VALUES (:id, :name, :processId, :terminatedAt, :status)")
+                .beanMapped()
+                .build();
+        jdbcBatchItemWriter.afterPropertiesSet();
+
+        jpaItemWriter = new JpaItemWriterBuilder<BlockedPost>()
+                .entityManagerFactory(database.entityManagerFactory())
+                .usePersist(true)
+                .build();
+
+        statelessSessionWriter = new StatelessSessionBlockedPostWriter(
+                database.entityManagerFactory(), database.dataSource(), CHUNK_SIZE);
+    }
+
+    @Setup(Level.Invocation)
+    public void clear() {
+        database.jdbcTemplate().update("DELETE FROM victims");
+        database.jdbcTemplate().update("DELETE FROM blocked_posts");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        database.close();
+        try (var files = Files.list(outputDirectory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(outputDirectory);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void jdbcBatchItemWriter() {
+        writeInTransactions(jdbcBatchItemWriter, victimChunks);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void jpaItemWriter() {
+        writeInTransactions(jpaItemWriter, blockedPostChunks());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void statelessSessionWriter() {
+        writeInTransactions(statelessSessionWriter, blockedPostChunks());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void flatFileJsonLinesWriter() throws Exception {
+        FlatFileItemWriter<BrainwashedVictim> writer = new FlatFileItemWriterBuilder<BrainwashedVictim>()
+                .name("flatFileJsonLinesWriter")
+                .resource(new FileSystemResource(outputDirectory.resolve("flat-file.jsonl")))
+                .lineAggregator(item -> {
+                    try {
+                        return objectMapper.writeValueAsString(item);
+                    } catch (JsonProcessingException e) {
+                        throw new RuntimeException(e);
+                    }
+                })
+                .build();
+        writer.afterPropertiesSet();
+        writeFile(writer);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void jsonLinesItemWriter() throws Exception {
+        writeFile(new JsonLinesItemWriter<>("jsonLinesItemWriter",
+                outputDirectory.resolve("json-lines.jsonl"), objectMapper));
+    }
+
+    /**
+     * JPA 엔티티는 영속성 컨텍스트에 등록되므로 호출마다 새로 생성
+     */
+    private List<Chunk<BlockedPost>> blockedPostChunks() {
+        List<Chunk<BlockedPost>> chunks = new ArrayList<>(victimChunks.size());
+        LocalDateTime blockedAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (Chunk<Victim> victims : victimChunks) {
+            Chunk<BlockedPost> chunk = new Chunk<>();
+            for (Victim victim : victims) {
+                chunk.add(BlockedPost.builder()
+                        .postId(victim.getId())
+                        .writer(victim.getName())
+                        .title(victim.getProcessId())
+                        .reportCount(10)
+                        .blockScore(8.5)
+                        .blockedAt(blockedAt)
+                        .build());
+            }
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private <T> void writeInTransactions(ItemWriter<T> writer, List<Chunk<T>> chunks) {
+        for (Chunk<T> chunk : chunks) {
+            transactionTemplate.executeWithoutResult(status -> {
+                try {
+                    writer.write(chunk);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+    }
+
+    private void writeFile(ItemStreamWriter<BrainwashedVictim> writer) throws Exception {
+        writer.open(new ExecutionContext());
+        try {
+            for (Chunk<BrainwashedVictim> chunk : brainwashedChunks) {
+                writer.write(chunk);
+            }
+        } finally {
+            writer.close();
+        }
+    }
+}
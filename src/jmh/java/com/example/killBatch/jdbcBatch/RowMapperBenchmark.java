@@ -0,0 +1,85 @@
+package com.example.killBatch.jdbcBatch;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * BeanPropertyRowMapper vs IndexedBeanRowMapper
+ *
+ * 동일한 쿼리(victims 10,000건)를 두 RowMapper로 매핑 -> 행당 처리량 비교
+ * 조회 비용은 양쪽이 동일하므로 차이는 매핑 비용
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=RowMapperBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowMapperBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final String SQL = "SELECT id, name, process_id, terminated_at, status FROM victims";
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Victim> beanPropertyRowMapper;
+    private RowMapper<Victim> indexedBeanRowMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:rowMapperBenchmark;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS victims");
+        jdbcTemplate.execute("""
+                CREATE TABLE victims (
+                    id BIGINT PRIMARY KEY,
+                    name VARCHAR(255),
+                    process_id VARCHAR(255),
+                    terminated_at TIMESTAMP,
+                    status VARCHAR(50)
+                )
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO victims
+                SELECT x, 'victim-' || x, 'pid-' || x, DATEADD('SECOND', x, TIMESTAMP '2024-01-01 00:00:00'), 'TERMINATED'
+                FROM SYSTEM_RANGE(1, ?)
+                """, ROWS);
+
+        beanPropertyRowMapper = new BeanPropertyRowMapper<>(Victim.class);
+        indexedBeanRowMapper = IndexedBeanRowMapper.of(Victim.class);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void beanPropertyRowMapper(Blackhole blackhole) {
+        List<Victim> victims = jdbcTemplate.query(SQL, beanPropertyRowMapper);
+        blackhole.consume(victims);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void indexedBeanRowMapper(Blackhole blackhole) {
+        List<Victim> victims = jdbcTemplate.query(SQL, indexedBeanRowMapper);
+        blackhole.consume(victims);
+    }
+}
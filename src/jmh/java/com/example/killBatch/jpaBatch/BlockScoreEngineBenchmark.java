@@ -0,0 +1,102 @@
+package com.example.killBatch.jpaBatch;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * BlockScoreEngine 처리량 - 신고 건수 기준 (ops/s = 초당 신고 수, 단일 스레드)
+ *
+ * 게시글 1,000개 x 신고 100건 = 신고 100,000건을 매 호출마다 점수 계산
+ * - score - 원시 배열로 변환된 상태에서 엔진만 측정
+ * - internAndScore - reportType 문자열 -> typeId 변환까지 포함 (PostBlockProcessor와 동일한 경로)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=BlockScoreEngineBenchmark (gc 프로파일러는 build.gradle에서 항상 활성화)
+ * -> gc.alloc.rate.norm 이 0에 가까워야 함 (신고당 객체 생성 없음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlockScoreEngineBenchmark {
+
+    private static final int POSTS = 1_000;
+    private static final int REPORTS_PER_POST = 100;
+    private static final int REPORTS = POSTS * REPORTS_PER_POST;
+    private static final String[] REPORT_TYPES = {"SPAM", "ABUSE", "ILLEGAL", "FAKE_NEWS", "ETC"};
+
+    private BlockScoreEngine engine;
+    private String[][] reportTypes;
+    private int[][] typeIds;
+    private int[][] levels;
+    private long[][] reportedAt;
+    private int[] scratchTypeIds;
+    private long reference;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        engine = new BlockScoreEngine(
+                Map.of("SPAM", 1.0, "ABUSE", 2.0, "ILLEGAL", 3.0, "FAKE_NEWS", 1.5),
+                0.5,
+                new double[]{0.2, 0.4, 0.6, 0.8, 1.0},
+                Duration.ofHours(72),
+                10.0);
+
+        // 고정 시드 -> 실행마다 동일한 데이터
+        SplittableRandom random = new SplittableRandom(42);
+        reference = 1_735_689_600L;  // 2025-01-01T00:00:00Z
+
+        reportTypes = new String[POSTS][REPORTS_PER_POST];
+        typeIds = new int[POSTS][REPORTS_PER_POST];
+        levels = new int[POSTS][REPORTS_PER_POST];
+        reportedAt = new long[POSTS][REPORTS_PER_POST];
+        for (int post = 0; post < POSTS; post++) {
+            for (int i = 0; i < REPORTS_PER_POST; i++) {
+                reportTypes[post][i] = REPORT_TYPES[random.nextInt(REPORT_TYPES.length)];
+                typeIds[post][i] = engine.typeId(reportTypes[post][i]);
+                levels[post][i] = random.nextInt(1, 6);
+                reportedAt[post][i] = reference - random.nextLong(30L * 24 * 3600);
+            }
+        }
+        scratchTypeIds = new int[REPORTS_PER_POST];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REPORTS)
+    public double score() {
+        double total = 0;
+        for (int post = 0; post < POSTS; post++) {
+            total += engine.score(typeIds[post], levels[post], reportedAt[post], REPORTS_PER_POST, reference);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REPORTS)
+    public double internAndScore() {
+        double total = 0;
+        for (int post = 0; post < POSTS; post++) {
+            String[] types = reportTypes[post];
+            for (int i = 0; i < REPORTS_PER_POST; i++) {
+                scratchTypeIds[i] = engine.typeId(types[i]);
+            }
+            total += engine.score(scratchTypeIds, levels[post], reportedAt[post], REPORTS_PER_POST, reference);
+        }
+        return total;
+    }
+}
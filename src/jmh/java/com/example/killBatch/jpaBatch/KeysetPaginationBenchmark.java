@@ -0,0 +1,91 @@
+package com.example.killBatch.jpaBatch;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * OFFSET 페이징 vs 키셋 페이징 - 페이지 위치별 1페이지 조회 지연시간
+ *
+ * posts 테이블(기본 5,000,000건)에서 position 위치의 페이지(5건)를 조회
+ * - OFFSET - ORDER BY id LIMIT 5 OFFSET :position -> position 만큼 읽고 버림 (위치에 비례)
+ * - 키셋   - WHERE id > :lastId ORDER BY id LIMIT 5 -> PK 인덱스 탐색 (위치와 무관하게 일정)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=KeysetPaginationBenchmark
+ * 메모리가 부족하면 rows를 줄여서 실행 (-Pjmh.benchmarkParameters=rows:1000000)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class KeysetPaginationBenchmark {
+
+    private static final int PAGE_SIZE = 5;
+
+    private static final String OFFSET_SQL =
+            "SELECT id, title, content, writer FROM posts ORDER BY id LIMIT ? OFFSET ?";
+    private static final String KEYSET_SQL =
+            "SELECT id, title, content, writer FROM posts WHERE id > ? ORDER BY id LIMIT ?";
+
+    @Param({"5000000"})
+    private int rows;
+
+    // 전체 대비 페이지 위치 (%)
+    @Param({"0", "25", "50", "99"})
+    private int positionPercent;
+
+    private JdbcTemplate jdbcTemplate;
+    private long position;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:keysetPaginationBenchmark;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS posts");
+        jdbcTemplate.execute("""
+                CREATE TABLE posts (
+                    id BIGINT PRIMARY KEY,
+                    title VARCHAR(255),
+                    content VARCHAR(255),
+                    writer VARCHAR(255)
+                )
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO posts
+                SELECT x, 'title-' || x, 'content-' || x, 'writer-' || MOD(x, 1000)
+                FROM SYSTEM_RANGE(1, ?)
+                """, rows);
+
+        position = (long) rows * positionPercent / 100;
+    }
+
+    @Benchmark
+    public List<Long> offsetPage() {
+        return jdbcTemplate.query(OFFSET_SQL, (rs, rowNum) -> rs.getLong(1), PAGE_SIZE, position);
+    }
+
+    /**
+     * id는 1부터 연속 -> position 위치의 직전 id = position
+     */
+    @Benchmark
+    public List<Long> keysetPage() {
+        return jdbcTemplate.query(KEYSET_SQL, (rs, rowNum) -> rs.getLong(1), position, PAGE_SIZE);
+    }
+}
@@ -56,6 +56,11 @@ public class KillBatchApplication {
         ConfigurableApplicationContext context = SpringApplication
                 .run(KillBatchApplication.class, args);
 
+        // 상주형 실행 서비스 모드 -> Job은 POST /jobs/{jobName}/launches 로 실행 (launch.JobLaunchService)
+        if (context.getEnvironment().getProperty("kill-batch.launcher.service.enabled", Boolean.class, false)) {
+            return;
+        }
+
         JobLauncher jobLauncher = context.getBean(JobLauncher.class);
         JobRegistry jobRegistry = context.getBean(JobRegistry.class);
 
@@ -0,0 +1,140 @@
+package com.example.killBatch.chunk;
+
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.repeat.CompletionPolicy;
+import org.springframework.batch.repeat.RepeatContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.repeat.context.RepeatContextSupport;
+
+/**
+ * 커밋 소요 시간 기반 가변 청크 크기 CompletionPolicy
+ *
+ * 고정 chunk(5), chunk(10)의 문제
+ * - 적정 청크 크기는 환경(H2 / PostgreSQL, 네트워크 거리)마다 수십~수백 배 차이
+ *
+ * 동작
+ * 1. beforeChunk - 청크 시작 시각 기록
+ * 2. afterChunk (커밋 이후 호출) - read/process/write/commit 전체 소요 시간 측정
+ * 3. 아이템당 소요 시간으로 목표 트랜잭션 시간에 맞는 청크 크기 계산
+ *      - 한 번에 최대 2배 증가 / 절반 감소 (급격한 변동 방지)
+ *      - [minSize, maxSize] 범위로 제한
+ * 4. update() - 현재 청크 크기를 StepExecutionContext에 기록
+ *      -> 재시작 시 open()에서 학습된 크기로 재개
+ *
+ * 주의사항 - 재시작 시 한 단계 늦은 크기로 재개
+ * - update()는 커밋 직전, 크기 조정은 커밋 이후(afterChunk)에 일어난다
+ * - 청크 N의 커밋에는 청크 N-1까지 학습한 크기가 저장되고, 청크 N의 결과는 청크 N+1 커밋 때 저장된다
+ * - 따라서 재시작은 마지막 조정 직전 크기로 시작한다 (최대 2배 / 절반 차이, 첫 청크 이후 다시 학습)
+ * - 커밋 시간까지 측정해야 하므로 조정 시점을 커밋 이전으로 옮기지 않는다
+ *
+ * 등록 방법
+ * chunk(policy, transactionManager) + listener(policy) + stream(policy)
+ */
+@Slf4j
+public class AdaptiveChunkCompletionPolicy implements CompletionPolicy, ChunkListener, ItemStream {
+
+    private final String chunkSizeKey;
+    private final int initialSize;
+    private final int minSize;
+    private final int maxSize;
+    private final long targetNanos;
+
+    private volatile int chunkSize;
+    private long chunkStartNanos;
+    private long chunkStartReadCount;
+
+    public AdaptiveChunkCompletionPolicy(String name, int initialSize, int minSize, int maxSize,
+            Duration targetTransactionTime) {
+        this.chunkSizeKey = name + ".adaptive.chunk.size";
+        this.initialSize = initialSize;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.targetNanos = targetTransactionTime.toNanos();
+        this.chunkSize = initialSize;
+    }
+
+    // ---- CompletionPolicy ----
+
+    @Override
+    public boolean isComplete(RepeatContext context, RepeatStatus result) {
+        if (result != null && !result.isContinuable()) {
+            return true;
+        }
+        return isComplete(context);
+    }
+
+    @Override
+    public boolean isComplete(RepeatContext context) {
+        return context.getStartedCount() >= chunkSize;
+    }
+
+    @Override
+    public RepeatContext start(RepeatContext parent) {
+        return new RepeatContextSupport(parent);
+    }
+
+    @Override
+    public void update(RepeatContext context) {
+        ((RepeatContextSupport) context).increment();
+    }
+
+    // ---- ChunkListener ----
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        chunkStartNanos = System.nanoTime();
+        chunkStartReadCount = context.getStepContext().getStepExecution().getReadCount();
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        long elapsedNanos = System.nanoTime() - chunkStartNanos;
+        StepExecution stepExecution = context.getStepContext().getStepExecution();
+        long items = stepExecution.getReadCount() - chunkStartReadCount;
+
+        // 마지막 청크처럼 청크 크기를 채우지 못한 경우는 학습에서 제외
+        if (items < chunkSize || elapsedNanos <= 0) {
+            return;
+        }
+
+        double nanosPerItem = (double) elapsedNanos / items;
+        double ideal = targetNanos / nanosPerItem;
+        double bounded = Math.max(chunkSize / 2.0, Math.min(chunkSize * 2.0, ideal));
+        int next = (int) Math.max(minSize, Math.min(maxSize, Math.round(bounded)));
+
+        if (next != chunkSize) {
+            log.debug("청크 크기 조정: {} -> {} (청크 소요 {}ms)", chunkSize, next, elapsedNanos / 1_000_000);
+            chunkSize = next;
+        }
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        // 실패한 청크는 소요 시간을 신뢰할 수 없으므로 학습하지 않음
+    }
+
+    // ---- ItemStream ----
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        chunkSize = executionContext.containsKey(chunkSizeKey)
+                ? executionContext.getInt(chunkSizeKey)
+                : initialSize;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putInt(chunkSizeKey, chunkSize);
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.killBatch.deadLetter;
+
+import java.time.LocalDateTime;
+
+/**
+ * batch_dead_letter 한 행 - skip된 아이템 기록
+ *
+ * phase - READ, PROCESS, WRITE
+ * payload - 아이템 JSON (READ skip은 아이템이 없으므로 null)
+ */
+public record DeadLetter(
+        Long id,
+        long jobExecutionId,
+        long stepExecutionId,
+        String stepName,
+        Phase phase,
+        String exceptionClass,
+        String exceptionMessage,
+        String payload,
+        LocalDateTime createdAt,
+        LocalDateTime replayedAt
+) {
+
+    public enum Phase {
+        READ, PROCESS, WRITE
+    }
+}
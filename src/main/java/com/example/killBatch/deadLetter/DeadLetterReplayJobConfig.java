@@ -0,0 +1,160 @@
+package com.example.killBatch.deadLetter;
+
+import com.example.killBatch.jpaBatch.Post;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * dead letter 재처리 Job - batch_dead_letter -> 다시 처리
+ *
+ * Reader - 지정한 Step의 미처리 dead letter를 id 순서(skip 발생 순서)로 조회 (키셋 페이징)
+ *      -> payload가 없는 READ skip은 재처리 불가 -> 조회 대상에서 제외 (수동 확인용으로 남김)
+ * Processor - payload(JSON) -> Post 복원 후 원래 Step의 Processor로 다시 처리
+ * Writer - 원래 Step의 Writer로 쓰기, 같은 청크 트랜잭션에서 replayed_at 기록
+ *      -> 재실행해도 같은 dead letter를 두 번 처리하지 않음
+ *      -> Processor가 필터링(null)한 아이템도 처리 완료로 기록
+ *
+ * 재처리 실패
+ * - 다시 실패한 아이템은 skip -> replayed_at이 남지 않으므로 다음 실행에서 다시 조회
+ * - skipLimit(kill-batch.dead-letter.replay.skip-limit) 초과 시 Job 실패
+ *
+ * 주의사항
+ * - 재처리 로직은 skipItemProcessorTestStep의 Processor / Writer를 재사용
+ *      -> 다른 Step의 dead letter를 재처리하려면 해당 Step의 Processor / Writer로 교체
+ *
+ * Job 파라미터
+ * stepName - skip이 발생한 Step 이름 (ex. skipItemProcessorTestStep)
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class DeadLetterReplayJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+    private final DeadLetterRepository deadLetterRepository;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Bean
+    public Job deadLetterReplayJob(
+            Step deadLetterReplayStep
+    ) {
+        return new JobBuilder("deadLetterReplayJob", jobRepository)
+                .start(deadLetterReplayStep)
+                .build();
+    }
+
+    @Bean
+    public Step deadLetterReplayStep(
+            ItemProcessor<Post, Post> skipItemProcessorTestProcessor,
+            ItemWriter<Post> skipItemProcessorTestWriter,
+            @Value("${kill-batch.dead-letter.replay.skip-limit:1000}") int skipLimit
+    ) {
+        return new StepBuilder("deadLetterReplayStep", jobRepository)
+                .<DeadLetter, Replay>chunk(100, transactionManager)
+                .reader(deadLetterReplayReader(null))
+                .processor(replayProcessor(skipItemProcessorTestProcessor))
+                .writer(replayWriter(skipItemProcessorTestWriter))
+                .faultTolerant()
+                .skip(Exception.class)
+                .skipLimit(skipLimit)
+                .listener(replaySkipListener())
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<DeadLetter> deadLetterReplayReader(
+            @Value("#{jobParameters['stepName']}") String stepName) {
+        return new JdbcPagingItemReaderBuilder<DeadLetter>()
+                .name("deadLetterReplayReader")
+                .dataSource(dataSource)
+                .pageSize(100)
+                .selectClause(DeadLetterRepository.SELECT_CLAUSE)
+                .fromClause("FROM batch_dead_letter")
+                .whereClause("WHERE step_name = :stepName AND replayed_at IS NULL AND payload IS NOT NULL")
+                .sortKeys(Map.of("id", Order.ASCENDING))
+                .parameterValues(Map.of("stepName", stepName))
+                .rowMapper(DeadLetterRepository.ROW_MAPPER)
+                .build();
+    }
+
+    /**
+     * 원래 Processor가 필터링한 아이템은 post = null로 전달 -> Writer에서 처리 완료 기록만
+     */
+    private ItemProcessor<DeadLetter, Replay> replayProcessor(ItemProcessor<Post, Post> delegate) {
+        return deadLetter -> {
+            Post post = toPost(objectMapper.readTree(deadLetter.payload()));
+            return new Replay(deadLetter, delegate.process(post));
+        };
+    }
+
+    private ItemWriter<Replay> replayWriter(ItemWriter<Post> delegate) {
+        return chunk -> {
+            List<Post> posts = new ArrayList<>(chunk.size());
+            List<Long> replayed = new ArrayList<>(chunk.size());
+            for (Replay replay : chunk) {
+                if (replay.post() != null) {
+                    posts.add(replay.post());
+                }
+                replayed.add(replay.deadLetter().id());
+            }
+            if (!posts.isEmpty()) {
+                delegate.write(new Chunk<>(posts));
+            }
+            deadLetterRepository.markReplayed(replayed, LocalDateTime.now());
+            log.info("💀 재처형 완료 - dead letter {}건", replayed.size());
+        };
+    }
+
+    private SkipListener<DeadLetter, Replay> replaySkipListener() {
+        return new SkipListener<>() {
+            @Override
+            public void onSkipInProcess(DeadLetter item, Throwable t) {
+                log.warn("재처형 실패 - dead letter {}: {}", item.id(), t.getClass().getSimpleName());
+            }
+
+            @Override
+            public void onSkipInWrite(Replay item, Throwable t) {
+                log.warn("재처형 실패 - dead letter {}: {}", item.deadLetter().id(), t.getClass().getSimpleName());
+            }
+        };
+    }
+
+    // payload에는 연관 엔티티(reports)까지 직렬화되어 있음 -> 재처리에 필요한 Post 필드만 꺼내서 생성
+    private static Post toPost(JsonNode node) {
+        return new Post(
+                node.path("id").asLong(),
+                node.path("title").asText(null),
+                node.path("content").asText(null),
+                node.path("writer").asText(null));
+    }
+
+    record Replay(DeadLetter deadLetter, Post post) {
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.killBatch.deadLetter;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+/**
+ * batch_dead_letter 테이블 접근 (JdbcTemplate)
+ */
+@Repository
+public class DeadLetterRepository {
+
+    public static final String SELECT_CLAUSE = "SELECT id, job_execution_id, step_execution_id, step_name, phase, "
+            + "exception_class, exception_message, payload, created_at, replayed_at";
+
+    public static final RowMapper<DeadLetter> ROW_MAPPER = (rs, rowNum) -> new DeadLetter(
+            rs.getLong("id"),
+            rs.getLong("job_execution_id"),
+            rs.getLong("step_execution_id"),
+            rs.getString("step_name"),
+            DeadLetter.Phase.valueOf(rs.getString("phase")),
+            rs.getString("exception_class"),
+            rs.getString("exception_message"),
+            rs.getString("payload"),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getObject("replayed_at", LocalDateTime.class));
+
+    private static final String INSERT_SQL = "INSERT INTO batch_dead_letter "
+            + "(job_execution_id, step_execution_id, step_name, phase, exception_class, exception_message, payload, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String MARK_REPLAYED_SQL =
+            "UPDATE batch_dead_letter SET replayed_at = ? WHERE id = ?";
+
+    private static final int MAX_MESSAGE_LENGTH = 2000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DeadLetterRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * JDBC 배치 INSERT 한 번으로 저장 (id는 DB에서 생성)
+     */
+    public void saveAll(List<DeadLetter> deadLetters) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, deadLetters.stream()
+                .map(DeadLetterRepository::toArgs)
+                .toList());
+    }
+
+    /**
+     * saveAll과 같은 배치 INSERT + 생성된 id 반환 (저장 순서와 동일)
+     * -> 나중에 markReplayed로 처리 완료 표시할 때 사용
+     */
+    public List<Long> saveAllReturningIds(List<DeadLetter> deadLetters) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        new ArgumentPreparedStatementSetter(toArgs(deadLetters.get(i))).setValues(ps);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return deadLetters.size();
+                    }
+                },
+                keyHolder);
+        // 드라이버마다 키 컬럼 이름의 대소문자가 다름 -> 첫 번째 값 사용
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+
+    public void markReplayed(List<Long> ids, LocalDateTime replayedAt) {
+        Timestamp at = Timestamp.valueOf(replayedAt);
+        jdbcTemplate.batchUpdate(MARK_REPLAYED_SQL, ids.stream()
+                .map(id -> new Object[]{at, id})
+                .toList());
+    }
+
+    private static Object[] toArgs(DeadLetter deadLetter) {
+        return new Object[]{
+                deadLetter.jobExecutionId(),
+                deadLetter.stepExecutionId(),
+                deadLetter.stepName(),
+                deadLetter.phase().name(),
+                deadLetter.exceptionClass(),
+                truncate(deadLetter.exceptionMessage()),
+                deadLetter.payload(),
+                Timestamp.valueOf(deadLetter.createdAt())};
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_MESSAGE_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_MESSAGE_LENGTH);
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.killBatch.deadLetter;
+
+import com.example.killBatch.deadLetter.DeadLetter.Phase;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * skip된 아이템을 batch_dead_letter 테이블에 일괄 저장하는 리스너
+ *
+ * 기존 방식 한계 - skip마다 System.out.println / 로그 출력
+ * -> 불량 데이터가 수백만 건이면 skip 기록(동기 출력)이 실행 시간 대부분을 차지, 기록도 남지 않음
+ *
+ * 동작
+ * 1. onSkipInRead/Process/Write - 아이템(JSON), 예외 클래스, 단계, StepExecution id를 메모리 버퍼에 추가 (출력 X)
+ * 2. afterChunk (청크 커밋 후, 트랜잭션 밖) - 버퍼 전체를 별도 트랜잭션(REQUIRES_NEW)에서 JDBC 배치 INSERT 한 번으로 저장
+ * 3. afterChunkError (청크 롤백) - 버퍼 폐기 (재처리 시 Spring Batch가 skip 리스너를 다시 호출)
+ * 4. afterStep - 남은 버퍼 저장
+ *
+ * 등록 - SkipListener, ChunkListener, StepExecutionListener 로 각각 등록 (Step마다 별도 인스턴스)
+ * 재처리 - DeadLetterReplayJobConfig (id 순서로 다시 읽기)
+ */
+@Slf4j
+public class DeadLetterSkipListener implements SkipListener<Object, Object>, ChunkListener, StepExecutionListener {
+
+    private final DeadLetterRepository deadLetterRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final List<DeadLetter> buffer = new ArrayList<>();
+    private StepExecution stepExecution;
+    private long saved;
+
+    public DeadLetterSkipListener(DeadLetterRepository deadLetterRepository, ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager) {
+        this.deadLetterRepository = deadLetterRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        this.stepExecution = stepExecution;
+        this.buffer.clear();
+        this.saved = 0;
+    }
+
+    @Override
+    public void onSkipInRead(Throwable t) {
+        buffer.add(deadLetter(Phase.READ, null, t));
+    }
+
+    @Override
+    public void onSkipInProcess(Object item, Throwable t) {
+        buffer.add(deadLetter(Phase.PROCESS, item, t));
+    }
+
+    @Override
+    public void onSkipInWrite(Object item, Throwable t) {
+        buffer.add(deadLetter(Phase.WRITE, item, t));
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        flush();
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        buffer.clear();
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        flush();
+        if (saved > 0) {
+            log.info("{} - dead letter {}건 저장", stepExecution.getStepName(), saved);
+        }
+        return null;
+    }
+
+    private void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        List<DeadLetter> deadLetters = List.copyOf(buffer);
+        transactionTemplate.executeWithoutResult(status -> deadLetterRepository.saveAll(deadLetters));
+        saved += deadLetters.size();
+        buffer.clear();
+    }
+
+    private DeadLetter deadLetter(Phase phase, Object item, Throwable t) {
+        return new DeadLetter(
+                null,
+                stepExecution.getJobExecutionId(),
+                stepExecution.getId(),
+                stepExecution.getStepName(),
+                phase,
+                t.getClass().getName(),
+                t.getMessage(),
+                toJson(item),
+                LocalDateTime.now(),
+                null);
+    }
+
+    /**
+     * skip 시점에 바로 직렬화 -> 이후 아이템이 변경되어도 skip 당시 상태 보존
+     */
+    private String toJson(Object item) {
+        if (item == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(item);
+        } catch (JsonProcessingException e) {
+            return String.valueOf(item);
+        }
+    }
+}
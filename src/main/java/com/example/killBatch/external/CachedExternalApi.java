@@ -0,0 +1,78 @@
+package com.example.killBatch.external;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * ExternalApiMock 앞단 캐시 - 게시글 제목(title) 기준
+ *
+ * 문제
+ * 동일한 제목의 Post가 많아도 TranslateProcessor는 매번 3초짜리 외부 API를 호출
+ *
+ * 캐시 정책 (Caffeine)
+ * - 최대 크기 제한 -> W-TinyLFU 방식으로 제거
+ * - TTL -> 기록 후 일정 시간이 지나면 만료 (외부 데이터 변경 반영)
+ * - 동일 키 동시 요청 병합 -> 먼저 요청한 스레드만 API 호출, 나머지는 같은 결과를 대기
+ *      - 호출은 캐시 잠금 밖에서 수행 (가상 스레드 pinning 방지)
+ *      - 호출 실패 시 캐시에 남지 않음 -> 다음 요청에서 재호출
+ *      - title이 null이면 캐시를 거치지 않고 직접 호출
+ *
+ * 통계(hit/miss/eviction)는 ExternalApiCacheStatsListener가 StepExecution에 기록
+ */
+@Slf4j
+@Component
+public class CachedExternalApi {
+
+    private final ExternalApiMock externalApiMock;
+    private final AsyncCache<String, Boolean> cache;
+
+    public CachedExternalApi(
+            ExternalApiMock externalApiMock,
+            @Value("${kill-batch.external-api.cache.maximum-size:10000}") long maximumSize,
+            @Value("${kill-batch.external-api.cache.ttl-seconds:600}") long ttlSeconds
+    ) {
+        this.externalApiMock = externalApiMock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .buildAsync();
+    }
+
+    public void externalApi(String title) {
+        // Caffeine은 null 키를 허용하지 않음 -> 캐시 없이 직접 호출
+        if (title == null) {
+            externalApiMock.externalApi(null);
+            return;
+        }
+
+        CompletableFuture<Boolean> created = new CompletableFuture<>();
+        CompletableFuture<Boolean> cached = cache.get(title, (key, executor) -> created);
+
+        // 이 스레드가 등록한 Future인 경우에만 실제 호출
+        if (cached == created) {
+            try {
+                externalApiMock.externalApi(title);
+                created.complete(Boolean.TRUE);
+            } catch (Throwable t) {
+                // Error 포함 - 완료되지 않은 Future를 남기면 같은 키의 대기 스레드가 영원히 join()
+                created.completeExceptionally(t);
+                throw t;
+            }
+            return;
+        }
+
+        log.debug("외부 API 캐시 사용: {}", title);
+        cached.join();
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.killBatch.external;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 API 캐시 통계 -> StepExecutionContext
+ *
+ * 캐시는 Step보다 오래 살아있으므로(싱글톤), Step 시작 시점 통계와의 차이만 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExternalApiCacheStatsListener implements StepExecutionListener {
+
+    private final CachedExternalApi cachedExternalApi;
+    private CacheStats startStats = CacheStats.empty();
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        startStats = cachedExternalApi.stats();
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        CacheStats stats = cachedExternalApi.stats().minus(startStats);
+
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        executionContext.putLong("externalApiCache.hitCount", stats.hitCount());
+        executionContext.putLong("externalApiCache.missCount", stats.missCount());
+        executionContext.putLong("externalApiCache.evictionCount", stats.evictionCount());
+        executionContext.putDouble("externalApiCache.hitRate", stats.hitRate());
+
+        log.info("외부 API 캐시 - hit: {}, miss: {}, eviction: {}, hitRate: {}",
+                stats.hitCount(), stats.missCount(), stats.evictionCount(),
+                String.format("%.2f", stats.hitRate()));
+        return null;
+    }
+}
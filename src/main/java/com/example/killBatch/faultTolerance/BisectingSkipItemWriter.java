@@ -0,0 +1,200 @@
+package com.example.killBatch.faultTolerance;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.core.step.skip.SkipPolicy;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.classify.BinaryExceptionClassifier;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 이분 탐색 스캔 Writer 데코레이터 - 쓰기 실패 시 Spring Batch 스캔 모드 대체
+ *
+ * 기존 스캔 모드 한계 (skipItemWriterTestStep)
+ * - 청크 쓰기 실패 -> 청크 롤백 -> 아이템을 하나씩 개별 트랜잭션으로 다시 쓰기
+ *      -> 10,000건 청크에 불량 1건이면 단건 쓰기 + 커밋 10,000번
+ *
+ * 동작 (모든 쓰기는 청크 트랜잭션 안의 JDBC 세이브포인트 단위 - ChunkSavepoint)
+ * 1. 청크 전체 쓰기 -> 성공하면 끝
+ * 2. 실패 -> 세이브포인트 롤백 후 청크를 절반으로 나눠 각각 다시 쓰기 (재귀)
+ * 3. 한 건까지 좁혀진 실패 아이템만 skip
+ *      -> 불량 k건 기준 쓰기 횟수 O(k log n), 커밋은 청크당 1번
+ *
+ * 기존 동작과 동일하게 유지하는 것
+ * - skip 판단 - 전달받은 SkipPolicy (skip 대상 예외, skipLimit 초과 시 SkipLimitExceededException)
+ * - skip 대상이 아닌 예외 -> 그대로 전파 (청크 롤백, Step 실패)
+ * - noRollback 예외 - 단건 쓰기에서 발생하면 롤백하지 않고 해당 아이템만 건너뜀 (skip 대상이면 skip 우선)
+ * - SkipListener.onSkipInWrite - 청크 커밋 직전 호출
+ * - StepExecution writeSkipCount 증가, writeCount에서 skip된 아이템 제외 (청크 트랜잭션 안에서 반영)
+ *      - writeCount - 쓰지 않은 아이템을 청크에서 제거 -> SimpleChunkProcessor가 남은 아이템 수만 집계
+ *      - writeSkipCount - write() 안에서 증가 -> 같은 청크의 StepExecution 저장에 포함, 청크 롤백 시 되돌림
+ *
+ * 주의사항
+ * - dataSource는 청크 트랜잭션 매니저와 같은 DataSource여야 한다
+ * - 위임 Writer는 같은 아이템을 다시 써도 되는 JDBC Writer여야 한다 (세이브포인트 롤백으로 이전 시도 무효화)
+ * - Step에 faultTolerant().skip()을 함께 설정할 필요 없음 (예외가 Step까지 올라가지 않음)
+ * - Step에 등록한 SkipListener는 호출되지 않는다 (Spring Batch의 skip 처리를 거치지 않음)
+ *      -> SkipListener는 Step이 아닌 이 Writer의 생성자에 전달
+ *      -> DeadLetterSkipListener처럼 ChunkListener / StepExecutionListener도 필요하면 같은 인스턴스를 Step에도 등록
+ */
+@Slf4j
+public class BisectingSkipItemWriter<T> implements ItemWriter<T> {
+
+    private final ItemWriter<T> delegate;
+    private final DataSource dataSource;
+    private final SkipPolicy skipPolicy;
+    private final BinaryExceptionClassifier noRollbackClassifier;
+    private final List<SkipListener<?, ? super T>> skipListeners;
+
+    public BisectingSkipItemWriter(ItemWriter<T> delegate, DataSource dataSource,
+            SkipPolicy skipPolicy, Collection<Class<? extends Throwable>> noRollbackExceptions,
+            List<SkipListener<?, ? super T>> skipListeners) {
+        this.delegate = delegate;
+        this.dataSource = dataSource;
+        this.skipPolicy = skipPolicy;
+        this.noRollbackClassifier = new BinaryExceptionClassifier(noRollbackExceptions, true);
+        this.skipListeners = skipListeners;
+    }
+
+    @Override
+    public void write(Chunk<? extends T> chunk) throws Exception {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        WriteResult<T> result = new WriteResult<>(currentSkipCount());
+        writeOrBisect(new ArrayList<>(chunk.getItems()), result);
+
+        if (result.notWritten.isEmpty()) {
+            return;
+        }
+
+        log.info("이분 탐색 스캔 - 청크 {}건, 쓰기 시도 {}회, skip {}건, 무시 {}건",
+                chunk.size(), result.attempts, result.skipped.size(), result.ignored);
+
+        for (Skipped<T> skipped : result.skipped) {
+            for (SkipListener<?, ? super T> listener : skipListeners) {
+                listener.onSkipInWrite(skipped.item(), skipped.cause());
+            }
+        }
+        removeNotWritten(chunk, result.notWritten);
+        applyWriteSkipCount(result.skipped.size());
+    }
+
+    private void writeOrBisect(List<T> items, WriteResult<T> result) throws Exception {
+        result.attempts++;
+        ChunkSavepoint savepoint = ChunkSavepoint.set(dataSource);
+        Exception failure;
+        try {
+            delegate.write(new Chunk<>(items));
+            savepoint.release();
+            return;
+        } catch (Exception e) {
+            failure = e;
+        }
+
+        boolean skippable = skipPolicy.shouldSkip(failure, -1);
+        boolean noRollback = noRollbackClassifier.classify(failure);
+
+        if (items.size() == 1 && !skippable && noRollback) {
+            // 기존 스캔 모드와 동일 - 롤백하지 않고 없던 일 처리
+            savepoint.release();
+            result.ignored++;
+            result.notWritten.add(items.get(0));
+            return;
+        }
+
+        savepoint.rollback();
+
+        if (!skippable && !noRollback) {
+            throw failure;
+        }
+
+        if (items.size() == 1) {
+            // skipLimit 초과 시 SkipLimitExceededException
+            skipPolicy.shouldSkip(failure, result.skipCountBase + result.skipped.size());
+            log.warn("쓰기 skip: {}", items.get(0), failure);
+            result.skipped.add(new Skipped<>(items.get(0), failure));
+            result.notWritten.add(items.get(0));
+            return;
+        }
+
+        int middle = items.size() / 2;
+        writeOrBisect(new ArrayList<>(items.subList(0, middle)), result);
+        writeOrBisect(new ArrayList<>(items.subList(middle, items.size())), result);
+    }
+
+    private long currentSkipCount() {
+        StepExecution stepExecution = currentStepExecution();
+        return stepExecution != null ? stepExecution.getSkipCount() : 0;
+    }
+
+    /**
+     * 쓰지 않은 아이템을 청크에서 제거 -> SimpleChunkProcessor가 writeCount로 남은 아이템 수만 집계
+     * (청크가 롤백되면 StepContribution째 버려지므로 별도 보정 불필요)
+     */
+    private static void removeNotWritten(Chunk<?> chunk, Set<Object> notWritten) {
+        Iterator<?> iterator = chunk.iterator();
+        while (iterator.hasNext()) {
+            if (notWritten.contains(iterator.next())) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * writeSkipCount를 청크 트랜잭션 안에서 증가 -> TaskletStep이 같은 트랜잭션에서 StepExecution 저장
+     * 청크가 롤백되면 (다음 청크에서 다시 skip되므로) 증가분을 되돌림
+     */
+    private void applyWriteSkipCount(int skipped) {
+        StepExecution stepExecution = currentStepExecution();
+        if (stepExecution == null || skipped == 0) {
+            return;
+        }
+        stepExecution.setWriteSkipCount(stepExecution.getWriteSkipCount() + skipped);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        stepExecution.setWriteSkipCount(stepExecution.getWriteSkipCount() - skipped);
+                    }
+                }
+            });
+        }
+    }
+
+    private static StepExecution currentStepExecution() {
+        StepContext context = StepSynchronizationManager.getContext();
+        return context != null ? context.getStepExecution() : null;
+    }
+
+    private static final class WriteResult<T> {
+        private final long skipCountBase;
+        private final List<Skipped<T>> skipped = new ArrayList<>();
+        // skip + 무시된 아이템 (같은 값의 다른 아이템과 구분하기 위해 identity 비교)
+        private final Set<Object> notWritten = Collections.newSetFromMap(new IdentityHashMap<>());
+        private int ignored;
+        private int attempts;
+
+        private WriteResult(long skipCountBase) {
+            this.skipCountBase = skipCountBase;
+        }
+    }
+
+    private record Skipped<T>(T item, Throwable cause) {
+    }
+}
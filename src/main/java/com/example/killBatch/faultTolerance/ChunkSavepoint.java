@@ -0,0 +1,85 @@
+package com.example.killBatch.faultTolerance;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 청크 트랜잭션 커넥션의 JDBC 세이브포인트
+ *
+ * PROPAGATION_NESTED 대신 사용
+ * - 스프링 부트 기본 트랜잭션 매니저(JpaTransactionManager)는 중첩 트랜잭션 미지원
+ *      -> getTransaction(NESTED) 시 NestedTransactionNotSupportedException
+ * - JpaTransactionManager도 청크 트랜잭션의 JDBC 커넥션을 DataSource에 바인딩함
+ *      -> DataSourceUtils로 같은 커넥션을 꺼내 세이브포인트를 직접 생성 (DataSourceTransactionManager도 동일)
+ *
+ * 주의사항
+ * - 트랜잭션 매니저와 같은 DataSource를 전달해야 한다 (다르면 IllegalStateException)
+ * - 세이브포인트 롤백은 JDBC 변경만 되돌린다 (JPA 영속성 컨텍스트는 그대로)
+ */
+@Slf4j
+final class ChunkSavepoint {
+
+    private final DataSource dataSource;
+    private final Connection connection;
+    private final Savepoint savepoint;
+
+    private ChunkSavepoint(DataSource dataSource, Connection connection, Savepoint savepoint) {
+        this.dataSource = dataSource;
+        this.connection = connection;
+        this.savepoint = savepoint;
+    }
+
+    static ChunkSavepoint set(DataSource dataSource) throws SQLException {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("세이브포인트는 청크 트랜잭션 안에서만 생성 가능");
+        }
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        if (!DataSourceUtils.isConnectionTransactional(connection, dataSource)) {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+            throw new IllegalStateException("현재 트랜잭션에 바인딩된 커넥션 없음 - 트랜잭션 매니저와 같은 DataSource인지 확인");
+        }
+        try {
+            return new ChunkSavepoint(dataSource, connection, connection.setSavepoint());
+        } catch (SQLException e) {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+            throw e;
+        }
+    }
+
+    /**
+     * 세이브포인트 이후 변경 유지
+     */
+    void release() {
+        try {
+            releaseSavepoint();
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * 세이브포인트 이후 변경 취소 (청크 트랜잭션은 계속 진행)
+     */
+    void rollback() throws SQLException {
+        try {
+            connection.rollback(savepoint);
+            releaseSavepoint();
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    // 일부 드라이버는 releaseSavepoint 미지원 -> 트랜잭션 종료 시 함께 정리되므로 무시
+    private void releaseSavepoint() {
+        try {
+            connection.releaseSavepoint(savepoint);
+        } catch (SQLException e) {
+            log.debug("세이브포인트 해제 실패 무시: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package com.example.killBatch.faultTolerance;
+
+import com.example.killBatch.deadLetter.DeadLetter;
+import com.example.killBatch.deadLetter.DeadLetter.Phase;
+import com.example.killBatch.deadLetter.DeadLetterRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.classify.BinaryExceptionClassifier;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 지연 재시도(deferred retry) Writer 데코레이터 - faultTolerant().retry() + backOffPolicy 대체
+ *
+ * 기존 방식 한계 (retryItemWriterTestStep)
+ * - 재시도 대기(backOff) 동안 청크 스레드가 sleep
+ *      -> 청크 트랜잭션과 DB 커넥션을 쥔 채로 최대 10초 대기
+ *      -> 외부 시스템 장애 중에는 정상 아이템 처리량까지 0으로 떨어짐
+ *
+ * 동작
+ * 1. write() - 위임 Writer를 청크 트랜잭션의 세이브포인트(ChunkSavepoint) 안에서 호출
+ *      - 성공 -> 그대로 진행
+ *      - 재시도 대상 예외 -> 세이브포인트까지만 롤백, 청크를 대기열(DelayQueue)에 보관하고 정상 반환
+ *        -> 청크 트랜잭션은 커밋되고 Step은 다음 청크로 진행
+ *      - 재시도 대상이 아닌 예외 -> 그대로 전파 (기존과 동일하게 Step 실패)
+ * 2. 다음 write() 호출마다 - 대기 시간이 지난 청크를 먼저 재시도 (실패 시 대기 시간을 늘려 다시 보관)
+ * 3. afterStep() - Reader가 끝난 뒤 남은 청크를 대기 시간에 맞춰 재시도 (청크마다 새 트랜잭션)
+ *      - 대기열이 비면 Step 완료
+ *      - maxAttempts를 넘긴 청크가 있으면 Step FAILED
+ *
+ * 대기열 등록 시점 - 청크 트랜잭션 커밋 후 (롤백된 청크는 Spring Batch가 다시 처리하므로 보관 X)
+ *
+ * 대기 아이템 보존 - batch_dead_letter (phase WRITE)
+ * - 처음 대기열로 보낼 때 아이템마다 dead letter 저장 -> 청크 트랜잭션과 함께 커밋 (Reader 위치와 원자적)
+ * - 재시도 성공 -> 같은 트랜잭션에서 replayed_at 기록
+ * - 재시도 소진, Step FAILED, 프로세스 비정상 종료 -> replayed_at 없는 행으로 남음
+ *      -> deadLetterReplayJob (stepName 파라미터)으로 재처리
+ *
+ * StepExecutionContext 기록
+ * - deferredRetry.parked - 대기열에 보관한 횟수
+ * - deferredRetry.recovered - 재시도로 성공한 청크 수
+ * - deferredRetry.exhausted - 재시도 횟수를 모두 소진한 청크 수
+ *
+ * 주의사항
+ * - 대기열 자체는 메모리에만 존재한다
+ *      -> 재시작한 Step은 이전 실행의 대기 아이템을 재시도하지 않는다 (dead letter 재처리 대상)
+ * - 대기열에 있는 아이템도 writeCount에는 포함된다
+ * - 위임 Writer가 JPA 영속성 컨텍스트를 사용하면 세이브포인트 롤백 후 컨텍스트가 어긋날 수 있다 (JDBC Writer 권장)
+ * - 단일 스레드 Step 전용
+ */
+@Slf4j
+public class DeferredRetryItemWriter<T> implements ItemWriter<T>, StepExecutionListener {
+
+    private static final String PARKED_KEY = "deferredRetry.parked";
+    private static final String RECOVERED_KEY = "deferredRetry.recovered";
+    private static final String EXHAUSTED_KEY = "deferredRetry.exhausted";
+
+    private final ItemWriter<T> delegate;
+    private final DataSource dataSource;
+    private final DeadLetterRepository deadLetterRepository;
+    private final ObjectMapper objectMapper;
+    private final BinaryExceptionClassifier retryableClassifier;
+    private final int maxAttempts;
+    private final long initialIntervalMillis;
+    private final double multiplier;
+    private final long maxIntervalMillis;
+    private final TransactionTemplate newTransaction;
+
+    private final DelayQueue<ParkedChunk<T>> parkedChunks = new DelayQueue<>();
+    private final List<ParkedChunk<T>> exhaustedChunks = new ArrayList<>();
+    private StepExecution stepExecution;
+    private long parked;
+    private long recovered;
+
+    /**
+     * @param dataSource          청크 트랜잭션 매니저와 같은 DataSource (세이브포인트 생성)
+     * @param retryableExceptions 예외 타입 -> 재시도 여부 (하위 타입 포함, 목록에 없으면 재시도 X)
+     * @param maxAttempts         최초 시도를 포함한 최대 시도 횟수
+     */
+    public DeferredRetryItemWriter(ItemWriter<T> delegate, PlatformTransactionManager transactionManager,
+            DataSource dataSource, DeadLetterRepository deadLetterRepository, ObjectMapper objectMapper,
+            Map<Class<? extends Throwable>, Boolean> retryableExceptions, int maxAttempts,
+            Duration initialInterval, double multiplier, Duration maxInterval) {
+        this.delegate = delegate;
+        this.dataSource = dataSource;
+        this.deadLetterRepository = deadLetterRepository;
+        this.objectMapper = objectMapper;
+        this.retryableClassifier = new BinaryExceptionClassifier(retryableExceptions, false);
+        this.maxAttempts = maxAttempts;
+        this.initialIntervalMillis = initialInterval.toMillis();
+        this.multiplier = multiplier;
+        this.maxIntervalMillis = maxInterval.toMillis();
+
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        this.stepExecution = stepExecution;
+        parkedChunks.clear();
+        exhaustedChunks.clear();
+        parked = 0;
+        recovered = 0;
+    }
+
+    @Override
+    public void write(Chunk<? extends T> chunk) throws Exception {
+        // 1. 대기 시간이 지난 청크 먼저 재시도
+        ParkedChunk<T> due;
+        List<ParkedChunk<T>> retried = new ArrayList<>();
+        while ((due = parkedChunks.poll()) != null) {
+            retried.add(due);
+        }
+        if (!retried.isEmpty() && TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 청크 트랜잭션이 롤백되면 꺼낸 청크를 그대로 되돌려 놓음
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        parkedChunks.addAll(retried);
+                    }
+                }
+            });
+        }
+        for (ParkedChunk<T> parkedChunk : retried) {
+            attempt(parkedChunk.items(), parkedChunk.attempts() + 1, parkedChunk.deadLetterIds());
+        }
+
+        // 2. 현재 청크
+        if (!chunk.isEmpty()) {
+            attempt(new ArrayList<>(chunk.getItems()), 1, List.of());
+        }
+    }
+
+    /**
+     * Reader 종료 후 남은 청크 처리
+     * 트랜잭션 밖에서 대기하므로 대기 중 DB 커넥션을 점유하지 않는다
+     */
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        try {
+            while (!parkedChunks.isEmpty()) {
+                ParkedChunk<T> parkedChunk = parkedChunks.take();
+                attempt(parkedChunk.items(), parkedChunk.attempts() + 1, parkedChunk.deadLetterIds());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("대기열 재시도 중단 - 남은 청크 {}개 (dead letter로 보존)", parkedChunks.size());
+        } catch (Exception e) {
+            // 재시도 대상이 아닌 예외
+            stepExecution.addFailureException(e);
+        }
+
+        stepExecution.getExecutionContext().putLong(PARKED_KEY, parked);
+        stepExecution.getExecutionContext().putLong(RECOVERED_KEY, recovered);
+        stepExecution.getExecutionContext().putLong(EXHAUSTED_KEY, exhaustedChunks.size());
+
+        int remaining = parkedChunks.size();
+        if (exhaustedChunks.isEmpty() && remaining == 0 && stepExecution.getFailureExceptions().isEmpty()) {
+            return null;
+        }
+
+        log.error("지연 재시도 실패 - 소진 {}개, 미처리 {}개 (batch_dead_letter에 보존)", exhaustedChunks.size(), remaining);
+        stepExecution.setStatus(BatchStatus.FAILED);
+        return ExitStatus.FAILED.addExitDescription(
+                "deferred retry exhausted: " + exhaustedChunks.size() + " chunk(s), remaining: " + remaining);
+    }
+
+    /**
+     * 청크 트랜잭션 안 (write) -> 세이브포인트, 트랜잭션 밖 (afterStep) -> 새 트랜잭션
+     * 세이브포인트 생성 실패 등 인프라 예외는 재시도 판단 없이 그대로 전파
+     */
+    private void attempt(List<T> items, int attempts, List<Long> deadLetterIds) throws Exception {
+        Exception failure = TransactionSynchronizationManager.isActualTransactionActive()
+                ? writeWithinSavepoint(items, deadLetterIds)
+                : writeInNewTransaction(items, deadLetterIds);
+
+        if (failure == null) {
+            if (attempts > 1) {
+                recovered++;
+                log.info("지연 재시도 성공 - {}건, 시도 {}회", items.size(), attempts);
+            }
+            return;
+        }
+        if (!retryableClassifier.classify(failure)) {
+            throw failure;
+        }
+        park(items, attempts, deadLetterIds, failure);
+    }
+
+    private Exception writeWithinSavepoint(List<T> items, List<Long> deadLetterIds) throws Exception {
+        ChunkSavepoint savepoint = ChunkSavepoint.set(dataSource);
+        try {
+            writeAndMarkReplayed(items, deadLetterIds);
+        } catch (Exception e) {
+            savepoint.rollback();
+            return e;
+        }
+        savepoint.release();
+        return null;
+    }
+
+    private Exception writeInNewTransaction(List<T> items, List<Long> deadLetterIds) {
+        try {
+            newTransaction.executeWithoutResult(status -> {
+                try {
+                    writeAndMarkReplayed(items, deadLetterIds);
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new WriteFailure(e);
+                }
+            });
+            return null;
+        } catch (WriteFailure e) {
+            return (Exception) e.getCause();
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private void writeAndMarkReplayed(List<T> items, List<Long> deadLetterIds) throws Exception {
+        delegate.write(new Chunk<>(items));
+        if (!deadLetterIds.isEmpty()) {
+            deadLetterRepository.markReplayed(deadLetterIds, LocalDateTime.now());
+        }
+    }
+
+    private void park(List<T> items, int attempts, List<Long> deadLetterIds, Exception cause) {
+        // 처음 실패한 청크 -> dead letter 저장 (현재 트랜잭션과 함께 커밋)
+        List<Long> ids = deadLetterIds.isEmpty() ? saveDeadLetters(items, cause) : deadLetterIds;
+        ParkedChunk<T> parkedChunk = new ParkedChunk<>(items, attempts, ids, System.nanoTime() + backOffNanos(attempts));
+
+        if (parkedChunk.attempts() >= maxAttempts) {
+            log.error("지연 재시도 소진 - {}건, 시도 {}회, dead letter {}", items.size(), attempts, ids, cause);
+            exhaustedChunks.add(parkedChunk);
+            return;
+        }
+
+        log.warn("청크 대기열 보관 - {}건, 시도 {}회, {}ms 후 재시도: {}", items.size(), attempts,
+                TimeUnit.NANOSECONDS.toMillis(parkedChunk.getDelay(TimeUnit.NANOSECONDS)), cause.toString());
+
+        // 청크 트랜잭션이 롤백되면 Spring Batch가 청크를 다시 처리하므로 커밋된 경우에만 보관
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        enqueue(parkedChunk);
+                    }
+                }
+            });
+        } else {
+            enqueue(parkedChunk);
+        }
+    }
+
+    private List<Long> saveDeadLetters(List<T> items, Exception cause) {
+        LocalDateTime now = LocalDateTime.now();
+        return deadLetterRepository.saveAllReturningIds(items.stream()
+                .map(item -> new DeadLetter(
+                        null,
+                        stepExecution.getJobExecutionId(),
+                        stepExecution.getId(),
+                        stepExecution.getStepName(),
+                        Phase.WRITE,
+                        cause.getClass().getName(),
+                        cause.getMessage(),
+                        toJson(item),
+                        now,
+                        null))
+                .toList());
+    }
+
+    private String toJson(T item) {
+        try {
+            return objectMapper.writeValueAsString(item);
+        } catch (JsonProcessingException e) {
+            return String.valueOf(item);
+        }
+    }
+
+    private void enqueue(ParkedChunk<T> parkedChunk) {
+        parkedChunks.add(parkedChunk);
+        parked++;
+    }
+
+    private long backOffNanos(int attempts) {
+        double interval = initialIntervalMillis * Math.pow(multiplier, attempts - 1);
+        return TimeUnit.MILLISECONDS.toNanos((long) Math.min(interval, maxIntervalMillis));
+    }
+
+    private record ParkedChunk<T>(List<T> items, int attempts, List<Long> deadLetterIds, long dueNanos)
+            implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueNanos, ((ParkedChunk<?>) other).dueNanos);
+        }
+    }
+
+    private static class WriteFailure extends RuntimeException {
+        WriteFailure(Exception cause) {
+            super(cause);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.killBatch.faultTolerance;
 
+import com.example.killBatch.itemProcessor.MemoizingItemProcessor;
 import com.example.killBatch.jpaBatch.Post;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -72,17 +73,21 @@ public class RetryItemProcessorTestConfig {
     /**
      * ItemProcessor에서 예외가 발생 -> 아이템 단위로 재시도 관리
      * -> ItemProcessor부터 처리가 재개
+     *
+     * MemoizingItemProcessor로 감싸서 등록
+     * -> 재시도 시 1~6번은 이전 처리 결과 재사용, 실패한 7번만 다시 처리
+     * -> processorNonTransactional() 없이 청크 안에서만 결과 재사용 (커밋 시 캐시 비움)
      */
     @Bean
     public Step retryItemProcessorTestStep(
             ItemReader<Post> retryItemProcessorTestReader,
-            ItemProcessor<Post, Post> retryItemProcessorTestProcessor,
+            MemoizingItemProcessor<Post, Post> retryItemProcessorMemoizingProcessor,
             ItemWriter<Post> retryItemProcessorTestWriter
     ) {
         return new StepBuilder("retryItemProcessorTestStep", jobRepository)
                 .<Post, Post>chunk(10, transactionManager)
                 .reader(retryItemProcessorTestReader)
-                .processor(retryItemProcessorTestProcessor)
+                .processor(retryItemProcessorMemoizingProcessor)
                 .writer(retryItemProcessorTestWriter)
                 //내결함성 기능 ON
                 .faultTolerant()
@@ -120,6 +125,11 @@ public class RetryItemProcessorTestConfig {
         };
     }
 
+    @Bean
+    public MemoizingItemProcessor<Post, Post> retryItemProcessorMemoizingProcessor() {
+        return new MemoizingItemProcessor<>(retryItemProcessorTestProcessor(), Post::getId);
+    }
+
     @Bean
     public ItemProcessor<Post, Post> retryItemProcessorTestProcessor() {
         return new ItemProcessor<Post, Post>() {
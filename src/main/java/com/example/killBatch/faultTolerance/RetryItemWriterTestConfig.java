@@ -1,7 +1,12 @@
 package com.example.killBatch.faultTolerance;
 
+import com.example.killBatch.deadLetter.DeadLetterRepository;
 import com.example.killBatch.jpaBatch.Post;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -37,6 +42,9 @@ public class RetryItemWriterTestConfig {
 
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+    private final DeadLetterRepository deadLetterRepository;
+    private final ObjectMapper objectMapper = new ObjectMapper();
 
     private static final List<Post> repository = List.of(
             new Post(1L, "test", "test", "test"),
@@ -160,4 +168,87 @@ public class RetryItemWriterTestConfig {
             }
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * 지연 재시도 - DeferredRetryItemWriter
+     *
+     * retryItemWriterTestStep과 같은 재시도 조건(TestException 재시도, NoRetryException 제외, 3회, 1초 -> x2 -> 최대 10초)
+     * 차이점 - 실패한 청크는 대기열로 빠지고, Step은 기다리지 않고 다음 청크를 계속 처리
+     *
+     * 청크 크기 3 -> 7번이 포함된 청크(7~9번)만 대기열로 빠지고 10번은 바로 처리
+     * faultTolerant() 불필요 (Writer가 직접 재시도), afterStep은 Writer 등록 시 자동으로 리스너 등록
+     * 대기 중인 7~9번 -> batch_dead_letter 기록, 재시도 성공 시 replayed_at 기록
+     */
+    @Bean
+    public Job deferredRetryItemWriterTestJob(
+            Step deferredRetryItemWriterTestStep
+    ) {
+        return new JobBuilder("deferredRetryItemWriterTestJob", jobRepository)
+                .start(deferredRetryItemWriterTestStep)
+                .build();
+    }
+
+    @Bean
+    public Step deferredRetryItemWriterTestStep(
+            ItemReader<Post> deferredRetryItemWriterTestReader,
+            DeferredRetryItemWriter<Post> deferredRetryItemWriter
+    ) {
+        return new StepBuilder("deferredRetryItemWriterTestStep", jobRepository)
+                .<Post, Post>chunk(3, transactionManager)
+                .reader(deferredRetryItemWriterTestReader)
+                .writer(deferredRetryItemWriter)
+                .build();
+    }
+
+    @Bean
+    public ItemReader<Post> deferredRetryItemWriterTestReader() {
+        return new ItemReader<Post>() {
+            private int index = 0;
+
+            @Override
+            public Post read() {
+                if (index >= repository.size()) {
+                    return null;
+                }
+                return repository.get(index++);
+            }
+        };
+    }
+
+    @Bean
+    public DeferredRetryItemWriter<Post> deferredRetryItemWriter() {
+        return new DeferredRetryItemWriter<>(
+                flakyPostWriter(),
+                transactionManager,
+                dataSource,
+                deadLetterRepository,
+                objectMapper,
+                Map.of(TestException.class, true, NoRetryException.class, false),
+                3,
+                Duration.ofSeconds(1),
+                2.0,
+                Duration.ofSeconds(10));
+    }
+
+    /**
+     * 7번 게시글 -> 처음 2번은 실패 (외부 시스템 일시 장애 흉내)
+     */
+    private ItemWriter<Post> flakyPostWriter() {
+        return new ItemWriter<Post>() {
+            private static final int MAX_PATIENCE = 2;
+            private int mercy = 0;
+
+            @Override
+            public void write(Chunk<? extends Post> chunk) {
+                for (Post item : chunk) {
+                    if (item.getId() == 7 && mercy < MAX_PATIENCE) {
+                        mercy++;
+                        System.out.println(item.getId() + " -> ❌ 처형 실패. 대기열로 이동");
+                        throw new TestException();
+                    }
+                    System.out.println(item.getId() + " -> ✅ 처형 완료");
+                }
+            }
+        };
+    }
+}
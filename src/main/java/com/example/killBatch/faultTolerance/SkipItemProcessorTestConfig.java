@@ -1,11 +1,17 @@
 package com.example.killBatch.faultTolerance;
 
+import com.example.killBatch.deadLetter.DeadLetterRepository;
+import com.example.killBatch.deadLetter.DeadLetterSkipListener;
 import com.example.killBatch.jpaBatch.Post;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.SkipListener;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
@@ -34,6 +40,8 @@ public class SkipItemProcessorTestConfig {
 
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
+    private final DeadLetterRepository deadLetterRepository;
+    private final ObjectMapper objectMapper = new ObjectMapper();
 
     private static final List<Post> repository = List.of(
             new Post(1L, "test", "test", "test"),
@@ -67,7 +75,8 @@ public class SkipItemProcessorTestConfig {
     public Step skipItemProcessorTestStep(
             ItemReader<Post> skipItemProcessorTestReader,
             ItemProcessor<Post, Post> skipItemProcessorTestProcessor,
-            ItemWriter<Post> skipItemProcessorTestWriter
+            ItemWriter<Post> skipItemProcessorTestWriter,
+            DeadLetterSkipListener skipItemProcessorDeadLetterListener
     ) {
         return new StepBuilder("skipItemProcessorTestStep", jobRepository)
                 .<Post, Post>chunk(10, transactionManager)
@@ -78,9 +87,18 @@ public class SkipItemProcessorTestConfig {
                 .faultTolerant()
                 .skip(TestException.class)
                 .skipLimit(2)
+                // skip 기록 -> batch_dead_letter (청크 커밋마다 일괄 저장)
+                .listener((SkipListener<Object, Object>) skipItemProcessorDeadLetterListener)
+                .listener((ChunkListener) skipItemProcessorDeadLetterListener)
+                .listener((StepExecutionListener) skipItemProcessorDeadLetterListener)
                 .build();
     }
 
+    @Bean
+    public DeadLetterSkipListener skipItemProcessorDeadLetterListener() {
+        return new DeadLetterSkipListener(deadLetterRepository, objectMapper, transactionManager);
+    }
+
     @Bean
     public ItemReader<Post> skipItemProcessorTestReader() {
         return new ItemReader<Post>() {
@@ -1,14 +1,23 @@
 package com.example.killBatch.faultTolerance;
 
+import com.example.killBatch.deadLetter.DeadLetterRepository;
+import com.example.killBatch.deadLetter.DeadLetterSkipListener;
 import com.example.killBatch.jpaBatch.Post;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.SkipListener;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.skip.LimitCheckingItemSkipPolicy;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemReader;
@@ -35,6 +44,9 @@ public class SkipItemWriterTestConfig {
 
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+    private final DeadLetterRepository deadLetterRepository;
+    private final ObjectMapper objectMapper = new ObjectMapper();
 
     private static final List<Post> repository = List.of(
             new Post(1L, "test", "test", "test"),
@@ -71,7 +83,8 @@ public class SkipItemWriterTestConfig {
     public Step skipItemWriterTestStep(
             ItemReader<Post> skipItemWriterTestReader,
             ItemProcessor<Post, Post> skipItemWriterTestProcessor,
-            ItemWriter<Post> skipItemWriterTestWriter
+            ItemWriter<Post> skipItemWriterTestWriter,
+            DeadLetterSkipListener skipItemWriterDeadLetterListener
     ) {
         return new StepBuilder("skipItemWriterTestStep", jobRepository)
                 .<Post, Post>chunk(10, transactionManager)
@@ -102,9 +115,18 @@ public class SkipItemWriterTestConfig {
                  *      - 핵심: skip과 noRollback 둘 다 설정 시, skip만 동작
                  */
                 .noRollback(TestException.class)
+                // skip 기록 -> batch_dead_letter (청크 커밋마다 일괄 저장)
+                .listener((SkipListener<Object, Object>) skipItemWriterDeadLetterListener)
+                .listener((ChunkListener) skipItemWriterDeadLetterListener)
+                .listener((StepExecutionListener) skipItemWriterDeadLetterListener)
                 .build();
     }
 
+    @Bean
+    public DeadLetterSkipListener skipItemWriterDeadLetterListener() {
+        return new DeadLetterSkipListener(deadLetterRepository, objectMapper, transactionManager);
+    }
+
     @Bean
     public ItemReader<Post> skipItemWriterTestReader() {
         return new ItemReader<Post>() {
@@ -157,4 +179,95 @@ public class SkipItemWriterTestConfig {
             }
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * 이분 탐색 스캔 - BisectingSkipItemWriter
+     *
+     * skipItemWriterTestStep과 같은 skip 조건 (TestException, skipLimit 2, noRollback TestException)
+     * 차이점 - 청크 쓰기 실패 시 단건 스캔 대신 청크를 반씩 나눠 쓰면서 불량 아이템만 골라냄
+     *      -> 10건 청크, 불량 7번 -> 전체(실패) -> 1~5(성공) -> 6~10(실패) -> 6~7(실패) -> 6(성공) -> 7(skip) -> 8~10(성공)
+     *
+     * Step에 등록한 SkipListener는 호출되지 않으므로 dead letter 리스너는 Writer에 SkipListener로 전달하고,
+     * 청크 / Step 단위 flush를 위해 Step에는 ChunkListener / StepExecutionListener로만 등록
+     */
+    @Bean
+    public Job bisectingSkipItemWriterTestJob(
+            Step bisectingSkipItemWriterTestStep
+    ) {
+        return new JobBuilder("bisectingSkipItemWriterTestJob", jobRepository)
+                .start(bisectingSkipItemWriterTestStep)
+                .build();
+    }
+
+    @Bean
+    public Step bisectingSkipItemWriterTestStep(
+            ItemReader<Post> bisectingSkipItemWriterTestReader,
+            BisectingSkipItemWriter<Post> bisectingSkipItemWriter,
+            DeadLetterSkipListener bisectingDeadLetterListener
+    ) {
+        return new StepBuilder("bisectingSkipItemWriterTestStep", jobRepository)
+                .<Post, Post>chunk(10, transactionManager)
+                .reader(bisectingSkipItemWriterTestReader)
+                .writer(bisectingSkipItemWriter)
+                .listener((ChunkListener) bisectingDeadLetterListener)
+                .listener((StepExecutionListener) bisectingDeadLetterListener)
+                .build();
+    }
+
+    @Bean
+    public ItemReader<Post> bisectingSkipItemWriterTestReader() {
+        return new ItemReader<Post>() {
+            private int index = 0;
+
+            @Override
+            public Post read() {
+                if (index >= repository.size()) {
+                    return null;
+                }
+                return repository.get(index++);
+            }
+        };
+    }
+
+    @Bean
+    public BisectingSkipItemWriter<Post> bisectingSkipItemWriter() {
+        List<SkipListener<?, ? super Post>> skipListeners = List.of(
+                bisectingSkipListener(), bisectingDeadLetterListener());
+        return new BisectingSkipItemWriter<>(
+                poisonPostWriter(),
+                dataSource,
+                new LimitCheckingItemSkipPolicy(2, Map.of(TestException.class, true)),
+                List.of(TestException.class),
+                skipListeners);
+    }
+
+    @Bean
+    public DeadLetterSkipListener bisectingDeadLetterListener() {
+        return new DeadLetterSkipListener(deadLetterRepository, objectMapper, transactionManager);
+    }
+
+    @Bean
+    public SkipListener<Post, Post> bisectingSkipListener() {
+        return new SkipListener<>() {
+            @Override
+            public void onSkipInWrite(Post item, Throwable t) {
+                log.info("💀 처형 불가 게시글 skip - id: {}, 원인: {}", item.getId(), t.getClass().getSimpleName());
+            }
+        };
+    }
+
+    /**
+     * 7번 게시글이 포함된 쓰기는 항상 실패 (불량 데이터)
+     */
+    private ItemWriter<Post> poisonPostWriter() {
+        return chunk -> {
+            for (Post item : chunk) {
+                if (item.getId() == 7) {
+                    System.out.println(chunk.size() + "건 쓰기 중 " + item.getId() + " -> ❌ 처형 실패.");
+                    throw new TestException();
+                }
+            }
+            chunk.forEach(item -> System.out.println(item.getId() + " -> ✅ 처형 완료"));
+        };
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.killBatch.fileBatch;
+
+import com.example.killBatch.test.InFearLearnStudentsBrainWashJobConfig.BrainwashedVictim;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Path;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * JSONL 파일 적재 Job - brainwashed_victims.jsonl -> brainwashed_victims 테이블
+ *
+ * FlatFileItemReader 한계 - 파일 하나를 단일 스레드가 처음부터 끝까지 읽음
+ *
+ * 구조
+ * 1. 매니저 Step - JsonLinesByteRangePartitioner로 파일을 줄 경계 기준 바이트 범위로 분할
+ * 2. 워커 Step - MappedJsonLinesItemReader가 자신의 범위만 메모리 매핑해서 파싱
+ * 3. 워커 Writer - JdbcBatchItemWriter (INSERT)
+ * -> 코어 수만큼 파싱 + 적재가 병렬로 진행
+ *
+ * Job 파라미터
+ * inputFile - 적재할 JSONL 파일 경로
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class BrainwashedVictimIngestJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${kill-batch.partition.grid-size:0}")
+    private int configuredGridSize;
+
+    @Bean
+    public Job brainwashedVictimIngestJob(Step brainwashedVictimIngestPartitionStep) {
+        return new JobBuilder("brainwashedVictimIngestJob", jobRepository)
+                .start(brainwashedVictimIngestPartitionStep)
+                .build();
+    }
+
+    @Bean
+    public Step brainwashedVictimIngestPartitionStep(
+            JsonLinesByteRangePartitioner brainwashedVictimByteRangePartitioner,
+            Step brainwashedVictimIngestWorkerStep,
+            TaskExecutor brainwashedVictimIngestTaskExecutor
+    ) {
+        return new StepBuilder("brainwashedVictimIngestPartitionStep", jobRepository)
+                .partitioner("brainwashedVictimIngestWorkerStep", brainwashedVictimByteRangePartitioner)
+                .step(brainwashedVictimIngestWorkerStep)
+                .gridSize(gridSize())
+                .taskExecutor(brainwashedVictimIngestTaskExecutor)
+                .build();
+    }
+
+    @Bean
+    public Step brainwashedVictimIngestWorkerStep(
+            MappedJsonLinesItemReader<BrainwashedVictim> brainwashedVictimJsonLinesReader,
+            JdbcBatchItemWriter<BrainwashedVictim> brainwashedVictimInsertWriter
+    ) {
+        return new StepBuilder("brainwashedVictimIngestWorkerStep", jobRepository)
+                .<BrainwashedVictim, BrainwashedVictim>chunk(1000, transactionManager)
+                .reader(brainwashedVictimJsonLinesReader)
+                .writer(brainwashedVictimInsertWriter)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public JsonLinesByteRangePartitioner brainwashedVictimByteRangePartitioner(
+            @Value("#{jobParameters['inputFile']}") String inputFile
+    ) {
+        return new JsonLinesByteRangePartitioner(Path.of(inputFile));
+    }
+
+    @Bean
+    @StepScope
+    public MappedJsonLinesItemReader<BrainwashedVictim> brainwashedVictimJsonLinesReader(
+            @Value("#{jobParameters['inputFile']}") String inputFile,
+            @Value("#{stepExecutionContext['startOffset']}") Long startOffset,
+            @Value("#{stepExecutionContext['endOffset']}") Long endOffset
+    ) {
+        return new MappedJsonLinesItemReader<>(
+                "brainwashedVictimJsonLinesReader",
+                Path.of(inputFile),
+                objectMapper,
+                BrainwashedVictim.class,
+                startOffset,
+                endOffset);
+    }
+
+    @Bean
+    public JdbcBatchItemWriter<BrainwashedVictim> brainwashedVictimInsertWriter() {
+        return new JdbcBatchItemWriterBuilder<BrainwashedVictim>()
+                .dataSource(dataSource)
+                .sql("""
+                        INSERT INTO brainwashed_victims (victim_id, original_lecture, original_instructor,
+                            brainwash_message, new_master, conversion_method, brainwash_status, next_action)
+                        VALUES (:victimId, :originalLecture, :originalInstructor,
+                            :brainwashMessage, :newMaster, :conversionMethod, :brainwashStatus, :nextAction)
+                        """)
+                .beanMapped()
+                .build();
+    }
+
+    @Bean
+    public TaskExecutor brainwashedVictimIngestTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(gridSize());
+        executor.setMaxPoolSize(gridSize());
+        executor.setThreadNamePrefix("jsonl-ingest-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    private int gridSize() {
+        return configuredGridSize > 0
+                ? configuredGridSize
+                : Runtime.getRuntime().availableProcessors();
+    }
+}
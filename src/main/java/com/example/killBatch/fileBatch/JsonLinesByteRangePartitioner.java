@@ -0,0 +1,101 @@
+package com.example.killBatch.fileBatch;
+
+import com.example.killBatch.partition.IdRangePartitioner;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * Partitioner - JSONL 파일 바이트 범위 분할
+ *
+ * 1. 파일 크기를 gridSize 개의 구간으로 나눔
+ * 2. 각 경계를 다음 줄바꿈(\n) 직후로 이동 -> 한 줄이 두 파티션에 걸치지 않음
+ * 3. 파티션 ExecutionContext에 [startOffset, endOffset) 기록
+ *      -> 워커 Step의 MappedJsonLinesItemReader가 자신의 범위만 읽음
+ *
+ * 줄이 매우 길어 여러 경계가 같은 줄바꿈으로 모이면 빈 구간은 생략
+ * 파티션 이름 규칙은 IdRangePartitioner와 동일 (partition0000...) -> 재시작 시 동일한 이름
+ */
+@Slf4j
+public class JsonLinesByteRangePartitioner implements Partitioner {
+
+    public static final String START_OFFSET_KEY = "startOffset";
+    public static final String END_OFFSET_KEY = "endOffset";
+
+    private static final int SCAN_BUFFER_SIZE = 8 * 1024;
+
+    private final Path file;
+
+    public JsonLinesByteRangePartitioner(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long start = 0;
+            int index = 0;
+
+            for (int i = 1; i <= gridSize && start < size; i++) {
+                long end = i == gridSize ? size : alignToNextLine(channel, size * i / gridSize, size);
+                if (end <= start) {
+                    continue;
+                }
+
+                ExecutionContext context = new ExecutionContext();
+                context.putLong(START_OFFSET_KEY, start);
+                context.putLong(END_OFFSET_KEY, end);
+                context.putInt(IdRangePartitioner.PARTITION_INDEX_KEY, index);
+                partitions.put(IdRangePartitioner.partitionName(index), context);
+                log.info("파티션 생성: {} -> bytes {} ~ {}", IdRangePartitioner.partitionName(index), start, end);
+
+                index++;
+                start = end;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("JSONL 파일 분할 실패: " + file, e);
+        }
+
+        if (partitions.isEmpty()) {
+            log.info("파티셔닝 대상 데이터 없음 -> 파티션 0개");
+        }
+        return partitions;
+    }
+
+    /**
+     * position 이후 첫 줄바꿈의 다음 위치 (없으면 파일 끝)
+     */
+    private long alignToNextLine(FileChannel channel, long position, long size) throws IOException {
+        if (position == 0) {
+            return 0;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        // position - 1 부터 확인 -> 경계 직전 바이트가 줄바꿈이면 그대로 사용
+        long offset = position - 1;
+        while (offset < size) {
+            buffer.clear();
+            int read = channel.read(buffer, offset);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+        return size;
+    }
+}
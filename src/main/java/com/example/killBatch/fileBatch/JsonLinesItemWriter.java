@@ -0,0 +1,253 @@
+package com.example.killBatch.fileBatch;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.batch.item.ItemStreamWriter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JSONL(JSON Lines) Writer - JsonGenerator 스트리밍 직렬화
+ *
+ * 기존 방식 (FlatFileItemWriter + objectMapper.writeValueAsString)
+ * 1. 아이템마다 JSON 문자열(String) 생성
+ * 2. FlatFileItemWriter 버퍼로 문자열 복사
+ * 3. 파일 쓰기 시 문자열 -> UTF-8 바이트로 다시 인코딩
+ *
+ * 동작
+ * 1. open() - FileChannel, 재사용 버퍼, 재사용 JsonGenerator 생성 (Step 당 1회)
+ * 2. write() - 청크의 아이템을 JsonGenerator로 버퍼에 바로 UTF-8 직렬화 (중간 String 없음)
+ * 3. 청크 트랜잭션 커밋 직전(beforeCommit) - 버퍼를 FileChannel에 한 번에 기록 (TransactionAwareBufferedWriter와 동일)
+ *      -> 파일 쓰기 실패 시 예외 -> 청크 트랜잭션 롤백 (ExecutionContext의 위치도 함께 롤백)
+ *      -> 롤백 시 버퍼를 비우고 JsonGenerator를 새로 생성, 이번 트랜잭션에서 기록한 바이트는 잘라냄
+ *      -> 트랜잭션이 없으면 write() 에서 바로 기록
+ *
+ * 재시작 (ItemStream)
+ * - update() - 파일 위치(채널 위치 + 커밋 대기 중인 바이트 수)를 ExecutionContext에 기록
+ * - 재시작 시 해당 위치로 truncate -> 이전 실행에서 커밋되지 않은 꼬리 부분 제거 후 이어 쓰기
+ *      -> 커밋된 위치는 항상 파일에 실제로 기록된 바이트 이내 (기록 실패 시 커밋 자체가 롤백)
+ *
+ * 직렬화 실패
+ * - 아이템 직렬화 도중 예외 -> 반쯤 쓰인 바이트가 JsonGenerator 내부 버퍼에 남고 쓰기 컨텍스트가 객체 중간에 멈춤
+ * - write() 시작 시점의 버퍼 위치로 되돌리고 JsonGenerator를 새로 생성 -> 재시도 / 다음 청크는 깨끗한 상태에서 시작
+ *
+ * 출력 형식 - writeValueAsString + 줄바꿈과 동일한 바이트 (FlatFileItemWriter 대체 가능)
+ */
+@Slf4j
+public class JsonLinesItemWriter<T> extends ItemStreamSupport implements ItemStreamWriter<T> {
+
+    private static final String POSITION_KEY = "position";
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter objectWriter;
+    private final String lineSeparator;
+
+    private FileChannel channel;
+    private ChunkBuffer buffer;
+    private JsonGenerator generator;
+    private boolean synchronizationRegistered;
+    // 현재 트랜잭션에서 처음 기록하기 전의 채널 위치 (롤백 시 되돌릴 위치)
+    private long transactionStartPosition;
+
+    public JsonLinesItemWriter(String name, Path path, ObjectMapper objectMapper) {
+        setName(name);
+        this.path = path;
+        this.objectMapper = objectMapper;
+        // 아이템마다 flush 하지 않음 -> 청크 끝에서 한 번만
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.lineSeparator = System.lineSeparator();
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+
+            long position = executionContext.getLong(getExecutionContextKey(POSITION_KEY), 0L);
+            if (channel.size() < position) {
+                throw new ItemStreamException("재시작 위치(" + position + ")보다 파일 크기("
+                        + channel.size() + ")가 작음: " + path);
+            }
+            // 재시작 -> 마지막 커밋 위치 이후 제거, 최초 실행 -> 기존 파일 내용 제거
+            channel.truncate(position);
+            channel.position(position);
+            if (position > 0) {
+                log.info("JSONL 재시작 - {} 바이트 위치부터 이어쓰기: {}", position, path);
+            }
+
+            buffer = new ChunkBuffer(INITIAL_BUFFER_SIZE);
+            generator = createGenerator();
+        } catch (IOException e) {
+            throw new ItemStreamException("JSONL 파일 열기 실패: " + path, e);
+        }
+        synchronizationRegistered = false;
+    }
+
+    private JsonGenerator createGenerator() throws IOException {
+        JsonGenerator created = objectMapper.getFactory().createGenerator(buffer, JsonEncoding.UTF8);
+        // 루트 값 사이 기본 구분자(공백) 제거 -> 줄바꿈만 직접 기록
+        created.setRootValueSeparator(null);
+        // 폐기할 때 열린 객체/배열을 닫는 바이트를 쓰지 않음
+        created.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        return created;
+    }
+
+    @Override
+    public void write(Chunk<? extends T> chunk) throws Exception {
+        // 이 write() 이전 바이트 (같은 트랜잭션에서 이미 쓴 청크)는 유지
+        int mark = buffer.size();
+        try {
+            for (T item : chunk) {
+                objectWriter.writeValue(generator, item);
+                generator.writeRaw(lineSeparator);
+            }
+            // JsonGenerator 내부 버퍼 -> 청크 버퍼 (청크당 1회)
+            generator.flush();
+        } catch (Exception e) {
+            resetGenerator(mark);
+            throw e;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            registerSynchronization();
+        } else {
+            flushToChannel();
+        }
+    }
+
+    private void registerSynchronization() {
+        if (synchronizationRegistered) {
+            return;
+        }
+        synchronizationRegistered = true;
+        try {
+            transactionStartPosition = channel.position();
+        } catch (IOException e) {
+            throw new UncheckedIOException("JSONL 파일 위치 조회 실패: " + path, e);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                // 실패 -> 커밋 대신 롤백 (update()가 기록한 위치도 커밋되지 않음)
+                try {
+                    flushToChannel();
+                } catch (IOException e) {
+                    throw new UncheckedIOException("JSONL 파일 쓰기 실패: " + path, e);
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                synchronizationRegistered = false;
+                if (status != STATUS_COMMITTED) {
+                    try {
+                        resetGenerator(0);
+                        // beforeCommit 기록 후 커밋이 실패한 경우 / 일부만 기록된 경우
+                        channel.truncate(transactionStartPosition);
+                        channel.position(transactionStartPosition);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("JSONL 롤백 처리 실패: " + path, e);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * 현재 JsonGenerator를 폐기하고 버퍼를 mark 위치로 되돌린 뒤 새 JsonGenerator 생성
+     * close() 시 내부 버퍼에 남은 바이트가 청크 버퍼로 흘러가므로 close 이후에 되돌린다
+     */
+    private void resetGenerator(int mark) throws IOException {
+        try {
+            generator.close();
+        } catch (IOException e) {
+            log.debug("JsonGenerator 폐기 중 예외 무시: {}", e.getMessage());
+        }
+        buffer.truncate(mark);
+        generator = createGenerator();
+    }
+
+    private void flushToChannel() throws IOException {
+        writeToChannel(channel, buffer.toByteBuffer());
+        buffer.reset();
+    }
+
+    // 테스트에서 쓰기 실패를 재현하기 위한 확장 지점
+    void writeToChannel(FileChannel channel, ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+    /**
+     * 청크 커밋 직전 호출 -> 커밋 후 기록될 바이트까지 포함한 위치
+     */
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (channel == null) {
+            return;
+        }
+        try {
+            executionContext.putLong(getExecutionContextKey(POSITION_KEY), channel.position() + buffer.size());
+        } catch (IOException e) {
+            throw new ItemStreamException("JSONL 파일 위치 조회 실패: " + path, e);
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        try {
+            if (generator != null) {
+                generator.close();
+            }
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            throw new ItemStreamException("JSONL 파일 닫기 실패: " + path, e);
+        } finally {
+            generator = null;
+            channel = null;
+            buffer = null;
+        }
+    }
+
+    /**
+     * 내부 배열을 복사 없이 ByteBuffer로 노출하는 재사용 버퍼
+     */
+    private static class ChunkBuffer extends ByteArrayOutputStream {
+
+        ChunkBuffer(int size) {
+            super(size);
+        }
+
+        ByteBuffer toByteBuffer() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+
+        void truncate(int size) {
+            count = Math.min(count, size);
+        }
+    }
+}
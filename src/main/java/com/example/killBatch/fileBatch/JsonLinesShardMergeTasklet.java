@@ -0,0 +1,169 @@
+package com.example.killBatch.fileBatch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+
+/**
+ * 샤드 파일 병합 Tasklet
+ *
+ * 파티션 워커가 만든 샤드 파일(part-00000.jsonl, part-00001.jsonl ...)을 파티션 번호 순서로 이어붙인다
+ * -> 파티션 번호 = 키 범위 순서이므로 단일 스레드 실행 결과와 동일한 바이트
+ *
+ * 병합 대상 - 디렉토리의 *.jsonl 전체가 아니라 이 JobInstance의 워커 StepExecution에서 결정
+ * - 워커 StepExecution 이름 {workerStepName}:partition0000 -> 파티션 번호 -> shardName(번호)
+ * - 재시작으로 파티션 Step이 다시 실행되지 않은 경우도 있으므로 JobInstance의 모든 JobExecution을 조회
+ * - 대상 샤드가 하나라도 없으면 실패 (이전 실행이나 더 큰 gridSize의 잔여 샤드는 병합하지 않음)
+ *
+ * 병합 - FileChannel.transferTo
+ * -> 커널이 파일 간 직접 복사 (zero-copy), JSON 파싱이나 사용자 영역 버퍼 복사 없음
+ *
+ * keepShards = true
+ * -> 병합하지 않고 샤드 파일을 그대로 두고, 순서와 크기를 기록한 manifest 파일 생성
+ *
+ * 재실행 - 대상 파일을 처음부터 다시 기록 (샤드는 병합 성공 후에만 삭제)
+ * 새 JobInstance 시작 시 잔여 샤드 정리 -> StaleShardCleanupListener
+ */
+@Slf4j
+public class JsonLinesShardMergeTasklet implements Tasklet {
+
+    public static final String SHARD_SUFFIX = ".jsonl";
+    public static final String MANIFEST_FILE = "manifest.json";
+
+    private static final String PARTITION_PREFIX = "partition";
+
+    private final Path shardDirectory;
+    private final Path target;
+    private final boolean keepShards;
+    private final JobExplorer jobExplorer;
+    private final String workerStepName;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * @param workerStepName 파티션 워커 Step 이름 (StepExecution 이름 = {workerStepName}:partition0000)
+     */
+    public JsonLinesShardMergeTasklet(Path shardDirectory, Path target, boolean keepShards,
+            JobExplorer jobExplorer, String workerStepName) {
+        this.shardDirectory = shardDirectory;
+        this.target = target;
+        this.keepShards = keepShards;
+        this.jobExplorer = jobExplorer;
+        this.workerStepName = workerStepName;
+    }
+
+    public static String shardName(int partitionIndex) {
+        return String.format("part-%05d", partitionIndex) + SHARD_SUFFIX;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws IOException {
+        List<Path> shards = expectedShards(chunkContext.getStepContext().getStepExecution().getJobExecution());
+
+        if (keepShards) {
+            writeManifest(shards);
+            return RepeatStatus.FINISHED;
+        }
+
+        long total = merge(shards);
+        log.info("샤드 {}개 병합 완료 -> {} ({} bytes)", shards.size(), target, total);
+
+        for (Path shard : shards) {
+            Files.delete(shard);
+        }
+        Files.deleteIfExists(shardDirectory);
+        return RepeatStatus.FINISHED;
+    }
+
+    private List<Path> expectedShards(JobExecution jobExecution) {
+        SortedSet<Integer> partitionIndexes = new TreeSet<>();
+        collectPartitionIndexes(jobExecution.getStepExecutions(), partitionIndexes);
+        for (JobExecution execution : jobExplorer.getJobExecutions(jobExecution.getJobInstance())) {
+            collectPartitionIndexes(execution.getStepExecutions(), partitionIndexes);
+        }
+
+        List<Path> shards = new ArrayList<>(partitionIndexes.size());
+        List<String> missing = new ArrayList<>();
+        for (int partitionIndex : partitionIndexes) {
+            Path shard = shardDirectory.resolve(shardName(partitionIndex));
+            if (!Files.isRegularFile(shard)) {
+                missing.add(shard.getFileName().toString());
+            }
+            shards.add(shard);
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("병합할 샤드 파일 없음: " + missing + " (" + shardDirectory + ")");
+        }
+        return shards;
+    }
+
+    private void collectPartitionIndexes(Collection<StepExecution> stepExecutions, Set<Integer> partitionIndexes) {
+        String prefix = workerStepName + ":" + PARTITION_PREFIX;
+        for (StepExecution stepExecution : stepExecutions) {
+            if (stepExecution.getStepName().startsWith(prefix)) {
+                partitionIndexes.add(Integer.parseInt(stepExecution.getStepName().substring(prefix.length())));
+            }
+        }
+    }
+
+    private long merge(List<Path> shards) throws IOException {
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Path shard : shards) {
+                try (FileChannel in = FileChannel.open(shard, StandardOpenOption.READ)) {
+                    long size = in.size();
+                    long position = 0;
+                    // transferTo는 요청보다 적게 전송할 수 있으므로 반복
+                    while (position < size) {
+                        position += in.transferTo(position, size - position, out);
+                    }
+                }
+            }
+            return out.size();
+        }
+    }
+
+    private void writeManifest(List<Path> shards) throws IOException {
+        List<Map<String, Object>> entries = new ArrayList<>(shards.size());
+        long total = 0;
+        for (Path shard : shards) {
+            long size = Files.size(shard);
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("file", shard.getFileName().toString());
+            entry.put("bytes", size);
+            entries.add(entry);
+            total += size;
+        }
+
+        Map<String, Object> manifest = new LinkedHashMap<>();
+        manifest.put("target", target.getFileName().toString());
+        manifest.put("totalBytes", total);
+        manifest.put("shards", entries);
+
+        Path manifestFile = shardDirectory.resolve(MANIFEST_FILE);
+        Files.createDirectories(shardDirectory);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(manifestFile.toFile(), manifest);
+        log.info("샤드 {}개 유지, manifest 생성 -> {}", shards.size(), manifestFile);
+    }
+}
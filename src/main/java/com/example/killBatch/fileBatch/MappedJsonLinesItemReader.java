@@ -0,0 +1,163 @@
+package com.example.killBatch.fileBatch;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+
+/**
+ * 메모리 매핑(MappedByteBuffer) JSONL Reader - 바이트 범위 [startOffset, endOffset) 만 읽음
+ *
+ * FlatFileItemReader 동작
+ * - BufferedReader로 한 줄씩 String 생성 -> LineMapper가 String을 다시 파싱
+ *
+ * 동작
+ * 1. 읽을 범위를 window 단위로 메모리 매핑 (OS 페이지 캐시를 그대로 사용, 힙 복사 X)
+ *      - window 끝은 마지막 줄바꿈 직후로 맞춤 -> window 안에는 완전한 줄만 존재
+ *      - 한 줄이 window보다 길면 window 크기를 2배로 늘려 다시 매핑
+ * 2. Jackson 스트리밍 파서가 매핑된 바이트를 직접 읽어 객체로 변환 (줄 단위 String 생성 X)
+ * 3. 파일 크기가 2GB를 넘어도 window 단위로 이동하며 읽음
+ *
+ * 재시작 (ItemStream)
+ * - 마지막으로 반환한 아이템 직후의 바이트 위치(offset)를 ExecutionContext에 기록
+ * - 재시작 시 해당 위치부터 다시 매핑 (앞부분 재파싱 없음)
+ *
+ * 주의사항 - 단일 스레드 전용, 파티션마다 독립 인스턴스(@StepScope) 사용
+ */
+@Slf4j
+public class MappedJsonLinesItemReader<T> extends ItemStreamSupport implements ItemStreamReader<T> {
+
+    private static final String OFFSET_KEY = "offset";
+    private static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private final Path file;
+    private final ObjectReader objectReader;
+    private final long startOffset;
+    private final long endOffset;
+
+    private int windowSize = DEFAULT_WINDOW_SIZE;
+    private FileChannel channel;
+    private long windowStart;
+    private long windowEnd;
+    private MappingIterator<T> iterator;
+    private JsonParser parser;
+    private long offset;
+
+    public MappedJsonLinesItemReader(String name, Path file, ObjectMapper objectMapper, Class<T> type,
+            long startOffset, long endOffset) {
+        setName(name);
+        this.file = file;
+        this.objectReader = objectMapper.readerFor(type);
+        this.startOffset = startOffset;
+        this.endOffset = endOffset;
+    }
+
+    public void setWindowSize(int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        offset = executionContext.getLong(getExecutionContextKey(OFFSET_KEY), startOffset);
+        if (offset > startOffset) {
+            log.info("JSONL 재시작 - {} 바이트 위치부터 읽기: {}", offset, file);
+        }
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new ItemStreamException("JSONL 파일 열기 실패: " + file, e);
+        }
+        iterator = null;
+        windowEnd = offset;
+    }
+
+    @Override
+    public T read() throws Exception {
+        while (true) {
+            if (iterator != null && iterator.hasNextValue()) {
+                T item = iterator.nextValue();
+                // 파서 위치 = window 시작 기준 바이트 수 -> 파일 기준 위치로 변환
+                offset = windowStart + parser.currentLocation().getByteOffset();
+                return item;
+            }
+            if (windowEnd >= endOffset) {
+                return null;
+            }
+            mapWindow(windowEnd);
+        }
+    }
+
+    private void mapWindow(long start) throws IOException {
+        closeIterator();
+
+        while (true) {
+            long length = Math.min(windowSize, endOffset - start);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+
+            int limit = (int) length;
+            if (start + length < endOffset) {
+                limit = lastLineEnd(buffer, limit);
+                if (limit == 0) {
+                    // window 안에 완전한 줄이 없음 -> window 확대
+                    windowSize = Math.multiplyExact(windowSize, 2);
+                    log.info("JSONL 한 줄이 window보다 김 -> window {} bytes로 확대", windowSize);
+                    continue;
+                }
+            }
+            buffer.limit(limit);
+
+            windowStart = start;
+            windowEnd = start + limit;
+            iterator = objectReader.readValues(new ByteBufferBackedInputStream(buffer));
+            parser = iterator.getParser();
+            return;
+        }
+    }
+
+    private static int lastLineEnd(MappedByteBuffer buffer, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (buffer.get(i) == '\n') {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putLong(getExecutionContextKey(OFFSET_KEY), offset);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        try {
+            closeIterator();
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            throw new ItemStreamException("JSONL 파일 닫기 실패: " + file, e);
+        } finally {
+            channel = null;
+        }
+    }
+
+    private void closeIterator() throws IOException {
+        if (iterator != null) {
+            iterator.close();
+            iterator = null;
+            parser = null;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.killBatch.fileBatch;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.explore.JobExplorer;
+
+/**
+ * 잔여 샤드 정리 - 새 JobInstance의 첫 실행에서만 샤드 디렉토리를 비운다
+ *
+ * 문제
+ * - 이전에 실패한 JobInstance, 더 큰 gridSize로 실행한 JobInstance의 샤드가 같은 디렉토리에 남아 있을 수 있음
+ *
+ * 재시작 (같은 JobInstance의 두 번째 이후 실행)
+ * - 완료된 파티션의 샤드는 다시 만들어지지 않으므로 지우지 않는다
+ *
+ * shardDirectory - {jobParameters[filePathParameter]}/{shardDirectoryName}
+ */
+@Slf4j
+public class StaleShardCleanupListener implements JobExecutionListener {
+
+    private final JobExplorer jobExplorer;
+    private final String filePathParameter;
+    private final String shardDirectoryName;
+
+    public StaleShardCleanupListener(JobExplorer jobExplorer, String filePathParameter, String shardDirectoryName) {
+        this.jobExplorer = jobExplorer;
+        this.filePathParameter = filePathParameter;
+        this.shardDirectoryName = shardDirectoryName;
+    }
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        List<JobExecution> executions = jobExplorer.getJobExecutions(jobExecution.getJobInstance());
+        boolean restart = executions.stream().anyMatch(execution -> !execution.getId().equals(jobExecution.getId()));
+        if (restart) {
+            return;
+        }
+
+        String filePath = jobExecution.getJobParameters().getString(filePathParameter);
+        if (filePath == null) {
+            return;
+        }
+        Path shardDirectory = Path.of(filePath, shardDirectoryName);
+        if (!Files.isDirectory(shardDirectory)) {
+            return;
+        }
+
+        try (Stream<Path> files = Files.list(shardDirectory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+                log.info("잔여 샤드 삭제: {}", file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("잔여 샤드 정리 실패: " + shardDirectory, e);
+        }
+    }
+}
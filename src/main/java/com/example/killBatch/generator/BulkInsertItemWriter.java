@@ -0,0 +1,113 @@
+package com.example.killBatch.generator;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 대량 INSERT Writer - Object[] 행을 지정 테이블/컬럼에 적재
+ *
+ * 동작
+ * - PostgreSQL -> CopyManager로 청크 전체를 COPY ... FROM STDIN (CSV, 한 번의 스트림 전송)
+ * - 그 외(H2 등) -> JdbcTemplate.batchUpdate (JDBC 배치 INSERT)
+ *
+ * 트랜잭션
+ * - JdbcTemplate -> DataSourceUtils를 통해 청크 트랜잭션 커넥션 사용 (CopyStagingOrderStatusItemWriter와 동일)
+ *      -> 청크 롤백 시 COPY 분도 함께 롤백
+ */
+@Slf4j
+public class BulkInsertItemWriter implements ItemWriter<Object[]> {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+    private final String insertSql;
+    private final String copySql;
+
+    private volatile Boolean postgres;
+
+    public BulkInsertItemWriter(DataSource dataSource, String table, List<String> columns) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.table = table;
+        String columnList = String.join(", ", columns);
+        this.insertSql = "INSERT INTO " + table + " (" + columnList + ") VALUES ("
+                + String.join(", ", columns.stream().map(column -> "?").toList()) + ")";
+        this.copySql = "COPY " + table + " (" + columnList + ") FROM STDIN WITH (FORMAT csv)";
+    }
+
+    @Override
+    public void write(Chunk<? extends Object[]> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = (List<Object[]>) chunk.getItems();
+
+        if (!isPostgres()) {
+            jdbcTemplate.batchUpdate(insertSql, rows);
+            return;
+        }
+
+        jdbcTemplate.execute((Connection connection) -> {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            try {
+                return copyManager.copyIn(copySql, new StringReader(toCsv(rows)));
+            } catch (IOException e) {
+                throw new DataAccessResourceFailureException("COPY into " + table + " failed", e);
+            }
+        });
+    }
+
+    private String toCsv(List<Object[]> rows) {
+        StringBuilder csv = new StringBuilder(rows.size() * 96);
+        for (Object[] row : rows) {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    csv.append(',');
+                }
+                appendValue(csv, row[i]);
+            }
+            csv.append('\n');
+        }
+        return csv.toString();
+    }
+
+    // CSV 포맷 - 따옴표 없는 빈 값은 NULL, 문자열은 항상 따옴표 (빈 문자열과 구분)
+    private void appendValue(StringBuilder csv, Object value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Number) {
+            csv.append(value);
+        } else if (value instanceof LocalDateTime dateTime) {
+            csv.append(TIMESTAMP_FORMAT.format(dateTime));
+        } else {
+            csv.append('"').append(value.toString().replace("\"", "\"\"")).append('"');
+        }
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = jdbcTemplate.execute(
+                    (Connection connection) -> connection.isWrapperFor(PGConnection.class));
+            postgres = result;
+            log.info("{} 적재 모드: {}", table, Boolean.TRUE.equals(result) ? "COPY" : "JDBC batch");
+        }
+        return Boolean.TRUE.equals(result);
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.killBatch.generator;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 합성 데이터 생성 Job - 대용량 처리량 테스트용 데이터 적재
+ *
+ * 기존 테스트 데이터 - 테스트 코드의 수강생 5명, 내결함성 예제의 게시글 10건 뿐
+ * -> 운영 규모에서의 동작(페이징 비용, 쏠림, 청크 크기 영향)을 재현할 수 없음
+ *
+ * 구조 - 테이블마다 Step 하나 (victims -> orders -> posts -> reports -> infearlearn_students)
+ * - Reader - SyntheticRowItemReader (SyntheticDataset으로 행 번호 -> 행 생성)
+ * - Writer - BulkInsertItemWriter (PostgreSQL COPY / 그 외 JDBC 배치 INSERT)
+ *
+ * Job 파라미터
+ * - seed - 같은 seed면 항상 같은 데이터 (기본값 42)
+ * - baseDateTime - 시각 값 기준 (기본값 2024-01-01T00:00)
+ * - victims, orders, posts, reports, students - 테이블별 생성 행 수 (기본값 0 -> 해당 Step은 즉시 종료)
+ *
+ * 주의사항
+ * - id는 1부터 생성 -> 대상 테이블은 비어 있어야 한다 (PK 충돌)
+ * - posts 없이 reports만 생성하면 기존 posts 행 수를 post_id 범위로 사용
+ *
+ * ex) posts 100만건 + 게시글당 평균 10건의 신고
+ * seed=7,posts=1000000,reports=10000000
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class SyntheticDataGeneratorJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+
+    @Value("${kill-batch.generator.chunk-size:5000}")
+    private int chunkSize;
+
+    @Bean
+    public Job syntheticDataGeneratorJob() {
+        return new JobBuilder("syntheticDataGeneratorJob", jobRepository)
+                .start(syntheticVictimStep())
+                .next(syntheticOrderStep())
+                .next(syntheticPostStep())
+                .next(syntheticReportStep())
+                .next(syntheticStudentStep())
+                .build();
+    }
+
+    @Bean
+    public Step syntheticVictimStep() {
+        return generatorStep("syntheticVictimStep", syntheticVictimReader(null, null),
+                "victims", SyntheticDataset.VICTIM_COLUMNS);
+    }
+
+    @Bean
+    public Step syntheticOrderStep() {
+        return generatorStep("syntheticOrderStep", syntheticOrderReader(null, null),
+                "orders", SyntheticDataset.ORDER_COLUMNS);
+    }
+
+    @Bean
+    public Step syntheticPostStep() {
+        return generatorStep("syntheticPostStep", syntheticPostReader(null, null),
+                "posts", SyntheticDataset.POST_COLUMNS);
+    }
+
+    @Bean
+    public Step syntheticReportStep() {
+        return generatorStep("syntheticReportStep", syntheticReportReader(null, null),
+                "reports", SyntheticDataset.REPORT_COLUMNS);
+    }
+
+    @Bean
+    public Step syntheticStudentStep() {
+        return generatorStep("syntheticStudentStep", syntheticStudentReader(null, null),
+                "infearlearn_students", SyntheticDataset.STUDENT_COLUMNS);
+    }
+
+    /**
+     * Job 실행 단위로 하나 - 모든 Step이 같은 seed, 기준 시각, 분포를 공유
+     */
+    @Bean
+    @JobScope
+    public SyntheticDataset syntheticDataset(
+            @Value("#{jobParameters['seed'] ?: 42L}") Long seed,
+            @Value("#{jobParameters['baseDateTime'] ?: T(java.time.LocalDateTime).of(2024, 1, 1, 0, 0)}") LocalDateTime baseDateTime,
+            @Value("#{jobParameters['orders'] ?: 0L}") Long orders,
+            @Value("#{jobParameters['posts'] ?: 0L}") Long posts,
+            @Value("#{jobParameters['reports'] ?: 0L}") Long reports,
+            @Value("${kill-batch.generator.report-skew:1.07}") double reportSkew
+    ) {
+        long postCount = posts > 0 || reports == 0
+                ? posts
+                : new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM posts", Long.class);
+        log.info("합성 데이터셋 - seed: {}, 기준 시각: {}, post_id 범위: 1..{}", seed, baseDateTime, postCount);
+        return new SyntheticDataset(seed, baseDateTime,
+                Math.max(orders / 20, 1), Math.max(posts / 10, 1), postCount, reportSkew);
+    }
+
+    @Bean
+    @StepScope
+    public SyntheticRowItemReader syntheticVictimReader(
+            @Value("#{jobParameters['victims'] ?: 0L}") Long rows, SyntheticDataset syntheticDataset) {
+        return new SyntheticRowItemReader("syntheticVictimReader", rows, syntheticDataset::victim);
+    }
+
+    @Bean
+    @StepScope
+    public SyntheticRowItemReader syntheticOrderReader(
+            @Value("#{jobParameters['orders'] ?: 0L}") Long rows, SyntheticDataset syntheticDataset) {
+        return new SyntheticRowItemReader("syntheticOrderReader", rows, syntheticDataset::order);
+    }
+
+    @Bean
+    @StepScope
+    public SyntheticRowItemReader syntheticPostReader(
+            @Value("#{jobParameters['posts'] ?: 0L}") Long rows, SyntheticDataset syntheticDataset) {
+        return new SyntheticRowItemReader("syntheticPostReader", rows, syntheticDataset::post);
+    }
+
+    @Bean
+    @StepScope
+    public SyntheticRowItemReader syntheticReportReader(
+            @Value("#{jobParameters['reports'] ?: 0L}") Long rows, SyntheticDataset syntheticDataset) {
+        return new SyntheticRowItemReader("syntheticReportReader", rows, syntheticDataset::report);
+    }
+
+    @Bean
+    @StepScope
+    public SyntheticRowItemReader syntheticStudentReader(
+            @Value("#{jobParameters['students'] ?: 0L}") Long rows, SyntheticDataset syntheticDataset) {
+        return new SyntheticRowItemReader("syntheticStudentReader", rows, syntheticDataset::student);
+    }
+
+    private Step generatorStep(String name, SyntheticRowItemReader reader, String table, List<String> columns) {
+        return new StepBuilder(name, jobRepository)
+                .<Object[], Object[]>chunk(chunkSize, transactionManager)
+                .reader(reader)
+                .writer(new BulkInsertItemWriter(dataSource, table, columns))
+                .build();
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.killBatch.generator;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 합성 데이터 행 생성기 - victims, orders, posts, reports, infearlearn_students
+ *
+ * 결정성
+ * - 행마다 (seed, 테이블, id)로부터 독립적인 SplittableRandom 생성
+ *      -> 같은 seed면 실행 순서, 청크 크기, 재시작 위치와 무관하게 항상 같은 행
+ * - 시각 값은 now()가 아닌 기준 시각(baseDateTime)으로부터 계산
+ *
+ * 분포 (실 운영 데이터의 쏠림 흉내)
+ * - victims - TERMINATED 60%, RUNNING 25%, ZOMBIE 10%, STOPPED 5% (TERMINATED 외에는 terminated_at NULL)
+ * - orders - 고객은 Zipf(1.1) -> 소수 고객에 주문 집중
+ *      - SHIPPED의 3%는 shipping_id NULL, CANCELLED의 5%는 shipping_id 존재 (jdbcBatchItemWriterTestJob 대상)
+ * - posts - 작성자는 Zipf(1.2)
+ * - reports - post_id는 Zipf(reportSkew) -> 게시글당 신고 수가 소수 게시글에 몰림 (id가 작을수록 인기 게시글)
+ *      - SPAM 50%, ABUSE 25%, FAKE_NEWS 15%, ILLEGAL 10% / 증거 데이터 40% NULL
+ * - infearlearn_students - 설득 기법 4종 + 10%는 세뇌 실패 대상 (BrainwashProcessor 필터링)
+ */
+public class SyntheticDataset {
+
+    public static final List<String> VICTIM_COLUMNS =
+            List.of("id", "name", "process_id", "terminated_at", "status");
+    public static final List<String> ORDER_COLUMNS =
+            List.of("id", "customer_id", "order_datetime", "status", "shipping_id");
+    public static final List<String> POST_COLUMNS =
+            List.of("id", "title", "content", "writer");
+    public static final List<String> REPORT_COLUMNS =
+            List.of("id", "post_id", "report_type", "reporter_level", "evidence_data", "reported_at");
+    // student_id는 AUTO_INCREMENT
+    public static final List<String> STUDENT_COLUMNS =
+            List.of("current_lecture", "instructor", "persuasion_method");
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private static final String[] PROCESS_NAMES = {"java", "python", "node", "postgres", "nginx", "chrome", "kworker"};
+    private static final String[] LECTURES = {"스프링 배치 입문", "JPA 정복", "코틀린 완전 정복", "리액트 마스터", "쿠버네티스 실전"};
+    private static final String[] INSTRUCTORS = {"김영한", "백기선", "이동욱", "조졸두", "최범균"};
+
+    private static final Weighted VICTIM_STATUS = new Weighted(
+            new String[]{"TERMINATED", "RUNNING", "ZOMBIE", "STOPPED"}, new int[]{60, 25, 10, 5});
+    private static final Weighted ORDER_STATUS = new Weighted(
+            new String[]{"PENDING", "PAID", "SHIPPED", "DELIVERED", "CANCELLED"}, new int[]{10, 15, 35, 30, 10});
+    private static final Weighted REPORT_TYPE = new Weighted(
+            new String[]{"SPAM", "ABUSE", "FAKE_NEWS", "ILLEGAL"}, new int[]{50, 25, 15, 10});
+    private static final Weighted PERSUASION_METHOD = new Weighted(
+            new String[]{"MURDER_YOUR_IGNORANCE", "SLAUGHTER_YOUR_LIMITS", "EXECUTE_YOUR_POTENTIAL",
+                    "TERMINATE_YOUR_EXCUSES", "IGNORE_BATCH_FOREVER"},
+            new int[]{25, 25, 20, 20, 10});
+    private static final int[] REPORTER_LEVEL_WEIGHTS = {30, 30, 20, 12, 8};
+
+    private static final int WINDOW_SECONDS = 90 * 24 * 60 * 60;
+
+    private final LocalDateTime baseDateTime;
+    private final long victimSeed;
+    private final long orderSeed;
+    private final long postSeed;
+    private final long reportSeed;
+    private final long studentSeed;
+
+    private final ZipfSampler customerSampler;
+    private final ZipfSampler writerSampler;
+    private final ZipfSampler reportedPostSampler;
+
+    /**
+     * @param seed          데이터셋 전체의 시드
+     * @param baseDateTime  시각 값의 기준 (생성되는 시각은 모두 기준 시각 이전 90일 이내)
+     * @param customerCount orders.customer_id 범위 (1..customerCount)
+     * @param writerCount   posts.writer 종류 수
+     * @param postCount     reports.post_id 범위 (1..postCount) - 생성하는 posts 행 수와 동일하게
+     * @param reportSkew    reports.post_id Zipf 지수 (클수록 소수 게시글에 집중)
+     */
+    public SyntheticDataset(long seed, LocalDateTime baseDateTime, long customerCount,
+            long writerCount, long postCount, double reportSkew) {
+        this.baseDateTime = baseDateTime;
+        this.victimSeed = mix64(seed ^ 0x7669637469L);
+        this.orderSeed = mix64(seed ^ 0x6f72646572L);
+        this.postSeed = mix64(seed ^ 0x706f7374L);
+        this.reportSeed = mix64(seed ^ 0x7265706f7274L);
+        this.studentSeed = mix64(seed ^ 0x73747564656e74L);
+        this.customerSampler = new ZipfSampler(Math.max(customerCount, 1), 1.1);
+        this.writerSampler = new ZipfSampler(Math.max(writerCount, 1), 1.2);
+        this.reportedPostSampler = new ZipfSampler(Math.max(postCount, 1), reportSkew);
+    }
+
+    public Object[] victim(long id) {
+        SplittableRandom random = randomFor(victimSeed, id);
+        String status = VICTIM_STATUS.pick(random);
+        LocalDateTime terminatedAt = "TERMINATED".equals(status) ? pastDateTime(random) : null;
+        return new Object[]{
+                id,
+                PROCESS_NAMES[random.nextInt(PROCESS_NAMES.length)] + "-" + id,
+                "PID-" + random.nextInt(1, 65_536),
+                terminatedAt,
+                status
+        };
+    }
+
+    public Object[] order(long id) {
+        SplittableRandom random = randomFor(orderSeed, id);
+        long customerId = customerSampler.sample(random);
+        LocalDateTime orderDateTime = pastDateTime(random);
+        String status = ORDER_STATUS.pick(random);
+        boolean shipped = switch (status) {
+            case "SHIPPED" -> random.nextInt(100) >= 3;
+            case "DELIVERED" -> true;
+            case "CANCELLED" -> random.nextInt(100) < 5;
+            default -> false;
+        };
+        return new Object[]{
+                id,
+                customerId,
+                orderDateTime,
+                status,
+                shipped ? "SHIP-" + Long.toString(id, 36).toUpperCase() : null
+        };
+    }
+
+    public Object[] post(long id) {
+        SplittableRandom random = randomFor(postSeed, id);
+        long writer = writerSampler.sample(random);
+        return new Object[]{
+                id,
+                "게시글 #" + id,
+                "내용 " + Long.toHexString(random.nextLong()),
+                "writer-" + writer
+        };
+    }
+
+    public Object[] report(long id) {
+        SplittableRandom random = randomFor(reportSeed, id);
+        long postId = reportedPostSampler.sample(random);
+        String reportType = REPORT_TYPE.pick(random);
+        int reporterLevel = pickIndex(REPORTER_LEVEL_WEIGHTS, random) + 1;
+        String evidenceData = random.nextInt(100) < 40 ? null : "https://evidence.kill9.io/" + id;
+        return new Object[]{
+                id,
+                postId,
+                reportType,
+                reporterLevel,
+                evidenceData,
+                pastDateTime(random)
+        };
+    }
+
+    public Object[] student(long index) {
+        SplittableRandom random = randomFor(studentSeed, index);
+        return new Object[]{
+                LECTURES[random.nextInt(LECTURES.length)],
+                INSTRUCTORS[random.nextInt(INSTRUCTORS.length)],
+                PERSUASION_METHOD.pick(random)
+        };
+    }
+
+    private LocalDateTime pastDateTime(SplittableRandom random) {
+        return baseDateTime.minusSeconds(random.nextInt(WINDOW_SECONDS));
+    }
+
+    private static SplittableRandom randomFor(long tableSeed, long id) {
+        return new SplittableRandom(mix64(tableSeed + id * GOLDEN_GAMMA));
+    }
+
+    // SplittableRandom과 동일한 64비트 믹싱 함수 (Stafford variant 13)
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int pickIndex(int[] weights, SplittableRandom random) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int r = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            r -= weights[i];
+            if (r < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private record Weighted(String[] values, int[] weights) {
+        String pick(SplittableRandom random) {
+            return values[pickIndex(weights, random)];
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.killBatch.generator;
+
+import java.util.function.LongFunction;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+
+/**
+ * 합성 데이터 Reader - 1..rows 번째 행을 rowFactory로 생성
+ *
+ * 행은 번호만으로 결정되므로 (SyntheticDataset)
+ * 재시작 시 read.count 만큼 다시 생성하고 버릴 필요 없이 바로 다음 번호부터 생성
+ */
+public class SyntheticRowItemReader extends AbstractItemCountingItemStreamItemReader<Object[]> {
+
+    private final LongFunction<Object[]> rowFactory;
+
+    public SyntheticRowItemReader(String name, long rows, LongFunction<Object[]> rowFactory) {
+        if (rows > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("행 수는 " + Integer.MAX_VALUE + " 이하: " + rows);
+        }
+        this.rowFactory = rowFactory;
+        setName(name);
+        setMaxItemCount((int) rows);
+    }
+
+    /**
+     * read()가 currentItemCount를 먼저 증가시킨 뒤 호출 -> 1부터 시작하는 행 번호
+     */
+    @Override
+    protected Object[] doRead() {
+        return rowFactory.apply(getCurrentItemCount());
+    }
+
+    @Override
+    protected void jumpToItem(int itemIndex) {
+        // 행 번호로 바로 생성하므로 건너뛸 필요 없음
+    }
+
+    @Override
+    protected void doOpen() {
+    }
+
+    @Override
+    protected void doClose() {
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.killBatch.generator;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zipf 분포 샘플러 - 1..n 중 순위 k를 1/k^exponent 비율로 반환
+ *
+ * 누적 분포 배열 방식 한계
+ * - n개의 확률을 미리 계산해 보관 -> n = 수백만이면 수십 MB, 생성 비용도 O(n)
+ *
+ * 동작 (rejection-inversion, Hörmann & Derflinger)
+ * - 연속 함수 h(x) = x^-exponent 의 적분/역함수로 후보를 뽑고, 가까운 정수로 반올림 후 수락 여부 판단
+ * - 메모리 O(1), 샘플당 평균 1회 남짓 시도
+ *
+ * 상태가 없으므로 여러 스레드에서 공유 가능 (난수 생성기는 호출자가 전달)
+ */
+public class ZipfSampler {
+
+    private final long n;
+    private final double exponent;
+    private final double hIntegralX1;
+    private final double hIntegralN;
+    private final double s;
+
+    public ZipfSampler(long n, double exponent) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n은 1 이상이어야 함: " + n);
+        }
+        if (exponent <= 0) {
+            throw new IllegalArgumentException("exponent는 0보다 커야 함: " + exponent);
+        }
+        this.n = n;
+        this.exponent = exponent;
+        this.hIntegralX1 = hIntegral(1.5) - 1.0;
+        this.hIntegralN = hIntegral(n + 0.5);
+        this.s = 2.0 - hIntegralInverse(hIntegral(2.5) - h(2.0));
+    }
+
+    public long sample(SplittableRandom random) {
+        while (true) {
+            double u = hIntegralN + random.nextDouble() * (hIntegralX1 - hIntegralN);
+            double x = hIntegralInverse(u);
+            long k = (long) (x + 0.5);
+            if (k < 1) {
+                k = 1;
+            } else if (k > n) {
+                k = n;
+            }
+            if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) {
+                return k;
+            }
+        }
+    }
+
+    private double h(double x) {
+        return Math.exp(-exponent * Math.log(x));
+    }
+
+    private double hIntegral(double x) {
+        double logX = Math.log(x);
+        return helper2((1.0 - exponent) * logX) * logX;
+    }
+
+    private double hIntegralInverse(double x) {
+        double t = x * (1.0 - exponent);
+        if (t < -1.0) {
+            t = -1.0;
+        }
+        return Math.exp(helper1(t) * x);
+    }
+
+    // log1p(x) / x (x -> 0 에서 테일러 전개)
+    private static double helper1(double x) {
+        if (Math.abs(x) > 1e-8) {
+            return Math.log1p(x) / x;
+        }
+        return 1.0 - x * (0.5 - x * (1.0 / 3.0 - 0.25 * x));
+    }
+
+    // expm1(x) / x (x -> 0 에서 테일러 전개)
+    private static double helper2(double x) {
+        if (Math.abs(x) > 1e-8) {
+            return Math.expm1(x) / x;
+        }
+        return 1.0 + x * 0.5 * (1.0 + x * (1.0 / 3.0) * (1.0 + 0.25 * x));
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.killBatch.itemListener;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free 지연시간 히스토그램 (HdrHistogram 방식의 log-linear 버킷)
+ *
+ * 버킷 구조
+ * - 0 ~ 31ns -> 1ns 단위 버킷
+ * - 그 이상 -> 2의 거듭제곱 구간마다 32개 버킷 (상대 오차 약 3%)
+ * - 버킷 수 고정 (1,920개) -> 기록 시 할당, 락, 정렬 없음
+ *
+ * record() 비용
+ * - 최상위 비트 계산 + AtomicLongArray 증가 1회 + LongAdder 2회 (+ 최대값 갱신 시 CAS)
+ *
+ * 백분위수는 해당 버킷의 상한값으로 보고 (실제 값 이상을 보장)
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        buckets.incrementAndGet(bucketIndex(value));
+        count.increment();
+        totalNanos.add(value);
+
+        // 최대값은 갱신이 필요한 경우에만 CAS
+        long max = maxNanos.get();
+        while (value > max && !maxNanos.compareAndSet(max, value)) {
+            max = maxNanos.get();
+        }
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public long maxNanos() {
+        return maxNanos.get();
+    }
+
+    public long meanNanos() {
+        long n = count.sum();
+        return n == 0 ? 0 : totalNanos.sum() / n;
+    }
+
+    /**
+     * @param percentile 0 ~ 100 (ex. 99.9)
+     */
+    public long percentileNanos(double percentile) {
+        long n = count.sum();
+        if (n == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(n * percentile / 100.0));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += buckets.get(i);
+            if (cumulative >= target) {
+                return Math.min(bucketUpperBound(i), maxNanos.get());
+            }
+        }
+        return maxNanos.get();
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(value);
+        int shift = msb - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = index % SUB_BUCKET_COUNT;
+        long lower = (SUB_BUCKET_COUNT + subBucket) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    public String summary(TimeUnit unit) {
+        return String.format("count=%d, p50=%d, p99=%d, p999=%d, max=%d (%s)",
+                count(),
+                unit.convert(percentileNanos(50), TimeUnit.NANOSECONDS),
+                unit.convert(percentileNanos(99), TimeUnit.NANOSECONDS),
+                unit.convert(percentileNanos(99.9), TimeUnit.NANOSECONDS),
+                unit.convert(maxNanos(), TimeUnit.NANOSECONDS),
+                unit.name().toLowerCase());
+    }
+}
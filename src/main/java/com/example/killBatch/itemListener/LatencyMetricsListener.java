@@ -0,0 +1,181 @@
+package com.example.killBatch.itemListener;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * 지연시간 계측 리스너 - 아이템마다 log.info 하는 리스너 대체
+ *
+ * 계측 항목 (LatencyHistogram)
+ * - read - beforeRead ~ afterRead
+ * - process - beforeProcess ~ afterProcess
+ * - write - beforeWrite ~ afterWrite (청크 단위)
+ * - commit - afterWrite ~ afterChunk (ItemStream update + 트랜잭션 커밋)
+ * - chunk - beforeChunk ~ afterChunk (청크 전체)
+ *
+ * 카운터 (LongAdder) - 필터링, read/process/write 에러, 롤백된 청크 수
+ *
+ * 아이템당 비용 - System.nanoTime() 2회 + 히스토그램 기록 (락, 할당, 로그 없음)
+ *
+ * afterStep
+ * 1. 백분위수(p50, p99, p999, max)를 StepExecutionContext에 기록 (latency.{항목}.p99Nanos ...)
+ * 2. 요약 로그 출력 (Step 당 한 번)
+ *
+ * 주의사항
+ * - Step 하나에 인스턴스 하나 (beforeStep에서 초기화)
+ * - 시작 시각은 필드에 보관 -> 단일 스레드 청크 Step 기준 (멀티 스레드 Step X)
+ */
+@Slf4j
+public class LatencyMetricsListener<T, S> implements StepExecutionListener, ChunkListener,
+        ItemReadListener<T>, ItemProcessListener<T, S>, ItemWriteListener<S> {
+
+    private static final double[] PERCENTILES = {50, 99, 99.9};
+    private static final String[] PERCENTILE_KEYS = {"p50Nanos", "p99Nanos", "p999Nanos"};
+
+    private LatencyHistogram read;
+    private LatencyHistogram process;
+    private LatencyHistogram write;
+    private LatencyHistogram commit;
+    private LatencyHistogram chunk;
+
+    private final LongAdder filtered = new LongAdder();
+    private final LongAdder readErrors = new LongAdder();
+    private final LongAdder processErrors = new LongAdder();
+    private final LongAdder writeErrors = new LongAdder();
+    private final LongAdder rolledBackChunks = new LongAdder();
+
+    private long readStart;
+    private long processStart;
+    private long writeStart;
+    private long writeEnd;
+    private long chunkStart;
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        read = new LatencyHistogram();
+        process = new LatencyHistogram();
+        write = new LatencyHistogram();
+        commit = new LatencyHistogram();
+        chunk = new LatencyHistogram();
+        filtered.reset();
+        readErrors.reset();
+        processErrors.reset();
+        writeErrors.reset();
+        rolledBackChunks.reset();
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        chunkStart = System.nanoTime();
+    }
+
+    @Override
+    public void beforeRead() {
+        readStart = System.nanoTime();
+    }
+
+    @Override
+    public void afterRead(T item) {
+        read.record(System.nanoTime() - readStart);
+    }
+
+    @Override
+    public void onReadError(Exception ex) {
+        readErrors.increment();
+    }
+
+    @Override
+    public void beforeProcess(T item) {
+        processStart = System.nanoTime();
+    }
+
+    @Override
+    public void afterProcess(T item, S result) {
+        process.record(System.nanoTime() - processStart);
+        if (result == null) {
+            filtered.increment();
+        }
+    }
+
+    @Override
+    public void onProcessError(T item, Exception e) {
+        processErrors.increment();
+    }
+
+    @Override
+    public void beforeWrite(Chunk<? extends S> items) {
+        writeStart = System.nanoTime();
+    }
+
+    @Override
+    public void afterWrite(Chunk<? extends S> items) {
+        writeEnd = System.nanoTime();
+        write.record(writeEnd - writeStart);
+    }
+
+    @Override
+    public void onWriteError(Exception exception, Chunk<? extends S> items) {
+        writeErrors.increment();
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        long now = System.nanoTime();
+        chunk.record(now - chunkStart);
+        if (writeEnd > chunkStart) {
+            commit.record(now - writeEnd);
+        }
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        rolledBackChunks.increment();
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        publish(executionContext, "read", read);
+        publish(executionContext, "process", process);
+        publish(executionContext, "write", write);
+        publish(executionContext, "commit", commit);
+        publish(executionContext, "chunk", chunk);
+        executionContext.putLong("latency.filtered", filtered.sum());
+        executionContext.putLong("latency.readErrors", readErrors.sum());
+        executionContext.putLong("latency.processErrors", processErrors.sum());
+        executionContext.putLong("latency.writeErrors", writeErrors.sum());
+        executionContext.putLong("latency.rolledBackChunks", rolledBackChunks.sum());
+
+        log.info("[{}] 지연시간 요약 | read: {} | process: {} | write: {} | commit: {} | chunk: {} "
+                        + "| filtered: {}, errors(r/p/w): {}/{}/{}, rollback: {}",
+                stepExecution.getStepName(),
+                read.summary(TimeUnit.MICROSECONDS),
+                process.summary(TimeUnit.MICROSECONDS),
+                write.summary(TimeUnit.MICROSECONDS),
+                commit.summary(TimeUnit.MICROSECONDS),
+                chunk.summary(TimeUnit.MICROSECONDS),
+                filtered.sum(), readErrors.sum(), processErrors.sum(), writeErrors.sum(),
+                rolledBackChunks.sum());
+        return null;
+    }
+
+    private void publish(ExecutionContext executionContext, String name, LatencyHistogram histogram) {
+        String prefix = "latency." + name + ".";
+        executionContext.putLong(prefix + "count", histogram.count());
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            executionContext.putLong(prefix + PERCENTILE_KEYS[i], histogram.percentileNanos(PERCENTILES[i]));
+        }
+        executionContext.putLong(prefix + "maxNanos", histogram.maxNanos());
+    }
+}
@@ -68,10 +68,11 @@ public class ListenerTestConfig {
             ItemProcessor<Post, Post> listenerTestProcessor,
             ItemWriter<Post> listenerTestWriter,
             StepExecutionListener customStepListener,
-            ChunkListener customChunkListener,
-            ItemReadListener<Post> customItemReadListener,
-            ItemProcessListener<Post, Post> customItemProcessListener,
-            ItemWriteListener<Post> customItemWriteListener
+//            ChunkListener customChunkListener,
+//            ItemReadListener<Post> customItemReadListener,
+//            ItemProcessListener<Post, Post> customItemProcessListener,
+//            ItemWriteListener<Post> customItemWriteListener,
+            LatencyMetricsListener<Post, Post> listenerTestLatencyMetricsListener
     ) {
         return new StepBuilder("listenerTestStep", jobRepository)
                 .<Post, Post>chunk(2, transactionManager)
@@ -79,10 +80,16 @@ public class ListenerTestConfig {
                 .processor(listenerTestProcessor)
                 .writer(listenerTestWriter)
                 .listener(customStepListener)
-                .listener(customChunkListener)
-                .listener(customItemReadListener)
-                .listener(customItemProcessListener)
-                .listener(customItemWriteListener)
+//                .listener(customChunkListener)
+//                .listener(customItemReadListener)
+//                .listener(customItemProcessListener)
+//                .listener(customItemWriteListener)
+                //아이템 단위 로그 리스너 대신 지연시간 계측 (여러 리스너 인터페이스 구현 -> 캐스팅으로 구분)
+                .listener((StepExecutionListener) listenerTestLatencyMetricsListener)
+                .listener((ChunkListener) listenerTestLatencyMetricsListener)
+                .listener((ItemReadListener<Post>) listenerTestLatencyMetricsListener)
+                .listener((ItemProcessListener<Post, Post>) listenerTestLatencyMetricsListener)
+                .listener((ItemWriteListener<Post>) listenerTestLatencyMetricsListener)
                 .build();
     }
 
@@ -125,6 +132,15 @@ public class ListenerTestConfig {
     }
 
 
+    /**
+     * LatencyMetricsListener
+     * read/process/write/commit 지연시간 히스토그램 -> StepExecutionContext + afterStep 요약 로그 1회
+     */
+    @Bean
+    public LatencyMetricsListener<Post, Post> listenerTestLatencyMetricsListener() {
+        return new LatencyMetricsListener<>();
+    }
+
     /**
      * JobExecutionListener
      *
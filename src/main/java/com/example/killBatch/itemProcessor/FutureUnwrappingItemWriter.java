@@ -0,0 +1,74 @@
+package com.example.killBatch.itemProcessor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamWriter;
+import org.springframework.batch.item.ItemWriter;
+
+/**
+ * VirtualThreadItemProcessor 짝꿍 Writer
+ *
+ * 1. 청크 순서대로 Future.get() -> 모든 비동기 처리가 끝난 뒤 쓰기 단계 진입
+ * 2. null 결과(필터링)는 제외
+ * 3. 처리 중 발생한 예외는 원래 예외로 풀어서 던짐 -> 기존 예외 처리(재시도/건너뛰기) 그대로 동작
+ *
+ * 위임 Writer가 ItemStream이면 open/update/close도 그대로 위임
+ */
+public class FutureUnwrappingItemWriter<O> implements ItemStreamWriter<Future<O>> {
+
+    private final ItemWriter<O> delegate;
+
+    public FutureUnwrappingItemWriter(ItemWriter<O> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void write(Chunk<? extends Future<O>> chunk) throws Exception {
+        List<O> results = new ArrayList<>(chunk.size());
+        for (Future<O> future : chunk) {
+            O result = unwrap(future);
+            if (result != null) {
+                results.add(result);
+            }
+        }
+        delegate.write(new Chunk<>(results));
+    }
+
+    private O unwrap(Future<O> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        if (delegate instanceof ItemStream stream) {
+            stream.open(executionContext);
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (delegate instanceof ItemStream stream) {
+            stream.update(executionContext);
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        if (delegate instanceof ItemStream stream) {
+            stream.close();
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.killBatch.itemProcessor;
 
+import com.example.killBatch.external.ExternalApiCacheStatsListener;
 import com.example.killBatch.jpaBatch.BlockedPost;
 import com.example.killBatch.jpaBatch.Post;
 import jakarta.persistence.EntityManagerFactory;
+import java.util.concurrent.Future;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -15,6 +17,7 @@ import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.JpaCursorItemReader;
 import org.springframework.batch.item.database.builder.JpaCursorItemReaderBuilder;
 import org.springframework.batch.item.validator.ValidatingItemProcessor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -40,17 +43,41 @@ public class ItemProcessorTestConfig {
             JpaCursorItemReader<Post> itemProcessorTestReader,
 //            NullReturnProcessor itemProcessor,
 //            ItemProcessor<Post, Post> itemPostNullFilterProcessor,
-            TranslateProcessor itemProcessor,
-            ItemWriter<BlockedPost> itemProcessorTestWriter
+//            TranslateProcessor itemProcessor,
+            VirtualThreadItemProcessor<Post, BlockedPost> asyncTranslateProcessor,
+            FutureUnwrappingItemWriter<BlockedPost> asyncItemProcessorTestWriter,
+            ExternalApiCacheStatsListener externalApiCacheStatsListener
     ) {
         return new StepBuilder("itemProcessorTestStep", jobRepository)
-                .<Post, BlockedPost>chunk(5, transactionManager)
+                .<Post, Future<BlockedPost>>chunk(5, transactionManager)
                 .reader(itemProcessorTestReader)
-                .processor(itemProcessor)
-                .writer(itemProcessorTestWriter)
+                .processor(asyncTranslateProcessor)
+                .writer(asyncItemProcessorTestWriter)
+                //외부 API 캐시 hit/miss/eviction -> StepExecutionContext
+                .listener(externalApiCacheStatsListener)
                 .build();
     }
 
+    /**
+     * 비동기 처리 모드
+     * TranslateProcessor 호출(3초 블로킹 외부 API)을 아이템마다 가상 스레드에서 동시에 실행
+     * -> 청크 처리 시간 = 아이템 수 * 3초 -> 약 3초 (maxInFlight 이내)
+     */
+    @Bean
+    public VirtualThreadItemProcessor<Post, BlockedPost> asyncTranslateProcessor(
+            TranslateProcessor translateProcessor,
+            @Value("${kill-batch.async.max-in-flight:32}") int maxInFlight
+    ) {
+        return new VirtualThreadItemProcessor<>(translateProcessor, maxInFlight, "translate-");
+    }
+
+    @Bean
+    public FutureUnwrappingItemWriter<BlockedPost> asyncItemProcessorTestWriter(
+            ItemWriter<BlockedPost> itemProcessorTestWriter
+    ) {
+        return new FutureUnwrappingItemWriter<>(itemProcessorTestWriter);
+    }
+
     @Bean
     public JpaCursorItemReader<Post> itemProcessorTestReader() {
         return new JpaCursorItemReaderBuilder<Post>()
@@ -0,0 +1,93 @@
+package com.example.killBatch.itemProcessor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.ItemProcessor;
+
+/**
+ * 청크 단위 처리 결과 캐시 ItemProcessor 데코레이터
+ *
+ * 문제 (retryItemProcessorTestStep)
+ * - 내결함성 Step에서 예외 발생 -> 청크 롤백 -> 청크의 모든 아이템을 처음부터 다시 process
+ *      -> 7번에서 실패하면 이미 처리한 1~6번도 재시도마다 다시 처리
+ *      -> TranslateProcessor 같은 외부 API 호출은 재시도 횟수만큼 반복
+ * - processorNonTransactional() -> 재처리는 막지만 Step 전체의 처리 결과를 재사용 대상으로 취급
+ *
+ * 동작
+ * 1. process() - keyExtractor로 아이템 키 추출 -> 캐시에 있으면 위임 없이 이전 결과 반환
+ * 2. 청크 롤백 (afterChunkError) - 캐시 유지 -> 재시도, 스캔 모드에서 재사용
+ * 3. 청크 커밋 (afterChunk) - 청크의 입력 아이템을 모두 처리했을 때만 캐시 비움
+ *      - 스캔 모드는 아이템마다 커밋 -> afterChunk가 여러 번 호출되지만 입력(ChunkContext "INPUTS")은 남아 있음
+ *      - ChunkOrientedTasklet이 청크를 끝내면 "INPUTS" 속성 제거 -> 그때 비움
+ * 4. beforeStep, afterStep - 캐시 비움 (이전 Step 실행의 결과가 남지 않도록)
+ *
+ * 필터링 결과(null)도 캐시 -> 재시도 시 다시 필터링
+ * 키가 null인 아이템 -> 캐시하지 않고 매번 위임 Processor 호출
+ *
+ * 등록 - Step의 processor로 등록하면 ChunkListener, StepExecutionListener로 자동 등록됨
+ *
+ * 주의사항
+ * - 키는 청크 안에서 유일해야 한다 (ex. Post::getId)
+ * - 캐시된 결과 객체를 그대로 돌려주므로 Writer가 결과 객체를 변경하면 재시도 시 변경된 객체가 전달된다
+ * - 예외가 발생한 아이템은 캐시하지 않음 -> 재시도 시 위임 Processor 다시 호출
+ */
+@Slf4j
+public class MemoizingItemProcessor<I, O> implements ItemProcessor<I, O>, ChunkListener, StepExecutionListener {
+
+    private static final Object FILTERED = new Object();
+    // ChunkOrientedTasklet.INPUTS_KEY (private) - 처리 중인 청크의 입력 아이템
+    private static final String INPUTS_KEY = "INPUTS";
+
+    private final ItemProcessor<I, O> delegate;
+    private final Function<? super I, ?> keyExtractor;
+    private final Map<Object, Object> results = new ConcurrentHashMap<>();
+
+    public MemoizingItemProcessor(ItemProcessor<I, O> delegate, Function<? super I, ?> keyExtractor) {
+        this.delegate = delegate;
+        this.keyExtractor = keyExtractor;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public O process(I item) throws Exception {
+        Object key = keyExtractor.apply(item);
+        if (key == null) {
+            return delegate.process(item);
+        }
+        Object cached = results.get(key);
+        if (cached != null) {
+            log.debug("처리 결과 재사용 - key: {}", key);
+            return cached == FILTERED ? null : (O) cached;
+        }
+
+        O result = delegate.process(item);
+        results.put(key, result != null ? result : FILTERED);
+        return result;
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        results.clear();
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        if (context.hasAttribute(INPUTS_KEY)) {
+            return;
+        }
+        results.clear();
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        results.clear();
+        return null;
+    }
+}
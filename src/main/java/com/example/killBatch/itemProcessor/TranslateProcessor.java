@@ -1,6 +1,6 @@
 package com.example.killBatch.itemProcessor;
 
-import com.example.killBatch.external.ExternalApiMock;
+import com.example.killBatch.external.CachedExternalApi;
 import com.example.killBatch.jpaBatch.BlockedPost;
 import com.example.killBatch.jpaBatch.Post;
 import java.time.LocalDateTime;
@@ -22,18 +22,20 @@ import org.springframework.stereotype.Component;
  * ItemWriterListener -> Chunk 단위로 Item 받음
  * Chunk 단위로 벌크 API 호출!
  *
+ * 동일 제목 반복 호출 -> CachedExternalApi (제목 기준 캐시)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class TranslateProcessor implements ItemProcessor<Post, BlockedPost> {
 
-    private final ExternalApiMock externalApiMock;
+    private final CachedExternalApi cachedExternalApi;
 
     @Override
     public BlockedPost process(Post item) {
 
-        externalApiMock.externalApi(item.getTitle());
+        // 동일 제목은 캐시에서 처리 (TTL 이내 재호출 X)
+        cachedExternalApi.externalApi(item.getTitle());
 
         return BlockedPost.builder()
                 .postId(item.getId())
@@ -0,0 +1,79 @@
+package com.example.killBatch.itemProcessor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.ItemProcessor;
+
+/**
+ * 가상 스레드 기반 비동기 ItemProcessor
+ *
+ * 문제
+ * TranslateProcessor -> 아이템마다 3초 블로킹 외부 API 호출
+ * -> chunk(5) 하나에 15초 (처리 시간이 아이템 개수에 비례)
+ *
+ * 동작 (AsyncItemProcessor / AsyncItemWriter 방식)
+ * 1. process() - 위임 ItemProcessor 호출을 가상 스레드에 제출하고 Future를 즉시 반환
+ * 2. 청크의 모든 아이템이 동시에 외부 API를 호출
+ * 3. FutureUnwrappingItemWriter - 쓰기 직전 Future를 청크 순서대로 join
+ *      -> 청크 내 순서 보장
+ *
+ * maxInFlight
+ * - 동시에 실행 중인 호출 수 제한 (Semaphore)
+ * - 한도에 도달하면 process()가 자리가 날 때까지 대기
+ *
+ * 위임 ItemProcessor가 @StepScope 빈을 사용할 수 있도록 가상 스레드에 StepExecution을 등록
+ */
+public class VirtualThreadItemProcessor<I, O> implements ItemProcessor<I, Future<O>>, AutoCloseable {
+
+    private final ItemProcessor<I, O> delegate;
+    private final Semaphore inFlight;
+    private final ExecutorService executor;
+
+    public VirtualThreadItemProcessor(ItemProcessor<I, O> delegate, int maxInFlight, String threadNamePrefix) {
+        this.delegate = delegate;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+    }
+
+    @Override
+    public Future<O> process(I item) throws Exception {
+        StepExecution stepExecution = currentStepExecution();
+
+        inFlight.acquire();
+        try {
+            return executor.submit(() -> {
+                if (stepExecution != null) {
+                    StepSynchronizationManager.register(stepExecution);
+                }
+                try {
+                    return delegate.process(item);
+                } finally {
+                    if (stepExecution != null) {
+                        StepSynchronizationManager.close();
+                    }
+                    inFlight.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    private StepExecution currentStepExecution() {
+        StepContext context = StepSynchronizationManager.getContext();
+        return context == null ? null : context.getStepExecution();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
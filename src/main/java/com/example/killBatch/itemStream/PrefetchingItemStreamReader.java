@@ -0,0 +1,180 @@
+package com.example.killBatch.itemStream;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+
+/**
+ * 백그라운드 선행 읽기(prefetch) Reader 데코레이터
+ *
+ * 기존 동작
+ * - Step 스레드가 read -> RowMapper 변환 -> process -> write -> commit 을 순차 수행
+ * - 청크를 쓰고 커밋하는 동안 DB 커서는 놀고 있음
+ *
+ * 동작
+ * 1. open() - 위임 Reader를 열고 producer 스레드 시작
+ * 2. producer 스레드 - 위임 Reader의 read()(조회 + 매핑)를 반복하며 bounded queue를 채움
+ * 3. read() - Step 스레드는 queue에서 꺼내기만 함 -> 읽기와 쓰기가 겹쳐서 진행
+ *
+ * 위임 Reader 예외
+ * - producer는 예외를 queue에 넣고 다음 read()를 계속 진행 (선행 읽기한 아이템은 버리지 않음)
+ *      -> Step 스레드는 위임 Reader를 직접 호출할 때와 같은 순서, 같은 위치에서 예외를 받는다
+ *      -> 내결함성 Step에서 skip 대상 예외면 다음 read()로 이후 아이템을 계속 읽음, skip 대상이 아니면 Step 실패
+ * - 예외가 난 read()도 소비 개수에 포함 (AbstractItemCountingItemStreamItemReader와 동일 -> 재시작 시 해당 행 건너뜀)
+ * - Error(OutOfMemoryError 등)는 producer 종료 -> 이후 read()는 null
+ *
+ * 재시작 (ItemStream)
+ * - 위임 Reader는 선행해서 읽기 때문에 자체 read.count가 실제 처리량보다 앞서 있다
+ * - 따라서 위임 Reader의 update()는 호출하지 않고,
+ *   Step 스레드가 실제로 소비한 개수만 위임 Reader의 키(read.count)로 기록
+ * - 재시작 시 위임 Reader가 해당 키를 읽어 소비한 위치까지만 이동 (선행 읽기분은 다시 읽음)
+ *
+ * 주의사항
+ * - 위임 Reader는 producer 스레드 하나에서만 호출된다 (멀티 스레드 Step 사용 금지)
+ * - 위임 Reader를 Step에 직접 등록하지 않는다 (이 데코레이터만 등록)
+ */
+@Slf4j
+public class PrefetchingItemStreamReader<T> implements ItemStreamReader<T> {
+
+    // AbstractItemCountingItemStreamItemReader가 사용하는 키
+    private static final String READ_COUNT = "read.count";
+    private static final Object END_OF_INPUT = new Object();
+    // 종료 대기 중 경고 로그 주기
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+    private final AbstractItemCountingItemStreamItemReader<T> delegate;
+    private final int queueCapacity;
+
+    private BlockingQueue<Object> queue;
+    private Thread producer;
+    private volatile boolean running;
+    private boolean exhausted;
+    private int consumedCount;
+
+    public PrefetchingItemStreamReader(AbstractItemCountingItemStreamItemReader<T> delegate,
+            int queueCapacity) {
+        this.delegate = delegate;
+        this.queueCapacity = queueCapacity;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        delegate.open(executionContext);
+
+        consumedCount = executionContext.getInt(delegate.getExecutionContextKey(READ_COUNT), 0);
+        exhausted = false;
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+
+        producer = new Thread(this::produce, Thread.currentThread().getName() + "-prefetch");
+        producer.setDaemon(true);
+        producer.start();
+    }
+
+    private void produce() {
+        try {
+            while (running) {
+                Object next;
+                try {
+                    T item = delegate.read();
+                    next = item != null ? item : END_OF_INPUT;
+                } catch (Exception e) {
+                    // 선행 읽기한 아이템 뒤에 예외 전달 -> Step 스레드가 실제 위치에서 다시 던짐
+                    next = new ProducerFailure(e);
+                }
+                queue.put(next);
+                if (next == END_OF_INPUT) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Error e) {
+            // 복구 불가 -> 전달 후 producer 종료 (close()가 queue를 비울 때까지 대기)
+            try {
+                queue.put(new ProducerFailure(e));
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T read() throws Exception {
+        if (exhausted) {
+            return null;
+        }
+
+        Object next = queue.take();
+
+        if (next == END_OF_INPUT) {
+            exhausted = true;
+            return null;
+        }
+        if (next instanceof ProducerFailure failure) {
+            // 위임 Reader도 예외가 난 read()를 read.count에 포함
+            consumedCount++;
+            if (failure.cause() instanceof Exception e) {
+                throw e;
+            }
+            exhausted = true;
+            throw (Error) failure.cause();
+        }
+
+        consumedCount++;
+        return (T) next;
+    }
+
+    /**
+     * 청크 커밋 직전 호출 -> Step 스레드가 소비한 개수만 기록
+     */
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (delegate.isSaveState()) {
+            executionContext.putInt(delegate.getExecutionContextKey(READ_COUNT), consumedCount);
+        }
+    }
+
+    /**
+     * producer 스레드가 완전히 끝난 뒤에만 위임 Reader를 닫는다
+     * - 진행 중인 delegate.read()는 interrupt로 중단되지 않을 수 있으나 fetchSize 만큼만 읽으면 반환된다
+     * - 닫힌 커서를 producer가 계속 읽는 상황을 막기 위해 타임아웃 없이 대기 (주기적으로 경고 로그만 남김)
+     * - 대기 중 Step 스레드가 interrupt되면 위임 Reader를 닫지 않고 예외
+     */
+    @Override
+    public void close() throws ItemStreamException {
+        running = false;
+        if (producer != null) {
+            producer.interrupt();
+            // queue.put()에서 대기 중인 producer를 깨움
+            queue.clear();
+            try {
+                while (!joinProducer()) {
+                    log.warn("prefetch 스레드가 {}ms 내에 종료되지 않음, 계속 대기: {}",
+                            CLOSE_TIMEOUT_MILLIS, producer.getName());
+                    queue.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ItemStreamException("prefetch 스레드 종료 대기 중 interrupt - 위임 Reader를 닫지 않음: "
+                        + producer.getName(), e);
+            }
+            producer = null;
+        }
+        queue = null;
+        delegate.close();
+    }
+
+    private boolean joinProducer() throws InterruptedException {
+        producer.join(CLOSE_TIMEOUT_MILLIS);
+        return !producer.isAlive();
+    }
+
+    private record ProducerFailure(Throwable cause) {
+    }
+}
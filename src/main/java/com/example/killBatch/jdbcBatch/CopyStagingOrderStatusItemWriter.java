@@ -0,0 +1,167 @@
+package com.example.killBatch.jdbcBatch;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * COPY 기반 주문 상태 일괄 업데이트 Writer
+ *
+ * JdbcBatchItemWriter의 한계
+ * - UPDATE orders SET status = :status WHERE id = :id 를 아이템 개수만큼 실행
+ * - reWriteBatchedInserts 옵션은 INSERT에만 적용 -> UPDATE는 여전히 건별 실행
+ *
+ * 동작 (PostgreSQL)
+ * 1. 청크 트랜잭션 커넥션에 임시 스테이징 테이블 준비 (ON COMMIT DELETE ROWS -> 커밋 시 자동 비움)
+ * 2. CopyManager로 청크 전체를 스테이징 테이블에 COPY (한 번의 스트림 전송)
+ * 3. UPDATE ... FROM 스테이징 테이블 -> 단 한 번의 UPDATE로 반영
+ *
+ * 청크 내 중복 id
+ * - UPDATE ... FROM은 대상 행을 한 번만 갱신하고, 어느 스테이징 행이 반영될지 보장하지 않는다
+ * - COPY 전에 id 기준으로 중복 제거 (마지막 아이템의 status 유지 -> 건별 UPDATE를 순서대로 실행한 결과와 동일)
+ *
+ * assertUpdates
+ * - 반영된 행 수 < 고유 id 수 -> 매칭되지 않은 id를 찾아 EmptyResultDataAccessException
+ * - JdbcBatchItemWriter의 assertUpdates(true)와 동일한 예외
+ *
+ * PostgreSQL이 아닌 경우(H2 등) -> 기존 JdbcBatchItemWriter로 위임
+ */
+@Slf4j
+public class CopyStagingOrderStatusItemWriter implements ItemWriter<HackedOrder> {
+
+    private static final String STAGING_TABLE = "orders_status_staging";
+
+    private static final String CREATE_STAGING_SQL =
+            "CREATE TEMP TABLE IF NOT EXISTS " + STAGING_TABLE
+            + " (id BIGINT NOT NULL, status VARCHAR(255)) ON COMMIT DELETE ROWS";
+
+    private static final String COPY_SQL =
+            "COPY " + STAGING_TABLE + " (id, status) FROM STDIN WITH (FORMAT csv)";
+
+    private static final String UPDATE_SQL =
+            "UPDATE orders o SET status = s.status FROM " + STAGING_TABLE + " s WHERE o.id = s.id";
+
+    private static final String FIND_UNMATCHED_SQL =
+            "SELECT s.id FROM " + STAGING_TABLE + " s "
+            + "WHERE NOT EXISTS (SELECT 1 FROM orders o WHERE o.id = s.id) LIMIT 1";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ItemWriter<HackedOrder> fallbackWriter;
+    private final boolean assertUpdates;
+
+    private volatile Boolean postgres;
+
+    public CopyStagingOrderStatusItemWriter(DataSource dataSource,
+            ItemWriter<HackedOrder> fallbackWriter, boolean assertUpdates) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.fallbackWriter = fallbackWriter;
+        this.assertUpdates = assertUpdates;
+    }
+
+    @Override
+    public void write(Chunk<? extends HackedOrder> chunk) throws Exception {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        if (!isPostgres()) {
+            fallbackWriter.write(chunk);
+            return;
+        }
+
+        // JdbcTemplate -> DataSourceUtils를 통해 청크 트랜잭션에 바인딩된 커넥션 사용
+        jdbcTemplate.execute((Connection connection) -> {
+            copyAndUpdate(connection, chunk.getItems());
+            return null;
+        });
+    }
+
+    private void copyAndUpdate(Connection connection, List<? extends HackedOrder> chunkItems)
+            throws SQLException {
+        Collection<HackedOrder> items = lastById(chunkItems);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_STAGING_SQL);
+        }
+
+        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        long copied;
+        try {
+            copied = copyManager.copyIn(COPY_SQL, new StringReader(toCsv(items)));
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException("COPY into " + STAGING_TABLE + " failed", e);
+        }
+
+        int updated;
+        try (Statement statement = connection.createStatement()) {
+            updated = statement.executeUpdate(UPDATE_SQL);
+        }
+
+        log.debug("COPY {}건 -> UPDATE {}건", copied, updated);
+
+        if (assertUpdates && updated < items.size()) {
+            throw new EmptyResultDataAccessException(
+                    "Item with id " + findUnmatchedId(connection) + " of " + chunkItems.size()
+                    + " did not update any rows", 1);
+        }
+    }
+
+    private Long findUnmatchedId(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(FIND_UNMATCHED_SQL);
+                ResultSet rs = statement.executeQuery()) {
+            return rs.next() ? rs.getLong(1) : null;
+        }
+    }
+
+    /**
+     * id 기준 중복 제거 - 같은 id는 마지막 아이템으로 덮어씀 (처음 등장한 위치 유지)
+     */
+    private Collection<HackedOrder> lastById(List<? extends HackedOrder> items) {
+        Map<Long, HackedOrder> byId = new LinkedHashMap<>(items.size() * 2);
+        for (HackedOrder order : items) {
+            byId.put(order.getId(), order);
+        }
+        return byId.values();
+    }
+
+    private String toCsv(Collection<HackedOrder> items) {
+        StringBuilder csv = new StringBuilder(items.size() * 32);
+        for (HackedOrder order : items) {
+            csv.append(order.getId()).append(',');
+            // CSV 포맷 - 따옴표 없는 빈 값은 NULL
+            if (order.getStatus() != null) {
+                csv.append('"').append(order.getStatus().replace("\"", "\"\"")).append('"');
+            }
+            csv.append('\n');
+        }
+        return csv.toString();
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = jdbcTemplate.execute(
+                    (Connection connection) -> connection.isWrapperFor(PGConnection.class));
+            postgres = result;
+            log.info("주문 상태 Writer 모드: {}", Boolean.TRUE.equals(result) ? "COPY + UPDATE FROM" : "JDBC batch");
+        }
+        return Boolean.TRUE.equals(result);
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.killBatch.jdbcBatch;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import org.springframework.beans.BeanUtils;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 컬럼 인덱스 기반 RowMapper - beanRowMapper(BeanPropertyRowMapper) 대체
+ *
+ * BeanPropertyRowMapper 동작 (매 행마다)
+ * - 컬럼명 정규화 -> 프로퍼티 탐색 -> BeanWrapper를 통한 리플렉션 set + 타입 변환
+ *
+ * IndexedBeanRowMapper 동작
+ * 1. 생성 시 - 기본 생성자와 setter를 LambdaMetafactory로 Supplier / BiConsumer로 변환 (리플렉션 X)
+ * 2. ResultSet이 바뀔 때마다(커서 1회, 페이지마다 1회) - 컬럼 라벨로 "컬럼 인덱스 -> 바인더" 배열 구성
+ *      - 동일한 컬럼 구성은 캐시된 배열 재사용
+ * 3. 매 행 - 배열을 순회하며 rs.getXxx(index) -> setter 호출만 수행
+ *
+ * 컬럼 매핑 규칙 - BeanPropertyRowMapper와 동일 (process_id -> processId, 대소문자 무시)
+ * 매핑되지 않는 컬럼은 무시, 원시 타입 프로퍼티의 NULL 값은 set 하지 않음
+ *
+ * 사용법
+ * .beanRowMapper(Victim.class) -> .rowMapper(IndexedBeanRowMapper.of(Victim.class))
+ */
+public class IndexedBeanRowMapper<T> implements RowMapper<T> {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final Supplier<T> instantiator;
+    private final Map<String, BiConsumer<T, Object>> setters = new HashMap<>();
+    private final Map<String, Class<?>> propertyTypes = new HashMap<>();
+    private final Map<String, ColumnBinder<T>[]> planCache = new ConcurrentHashMap<>();
+
+    private volatile BoundPlan<T> boundPlan;
+
+    private IndexedBeanRowMapper(Class<T> mappedClass) {
+        this.instantiator = createInstantiator(mappedClass);
+
+        for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(mappedClass)) {
+            Method writeMethod = descriptor.getWriteMethod();
+            if (writeMethod == null) {
+                continue;
+            }
+            String key = normalize(descriptor.getName());
+            setters.put(key, createSetter(mappedClass, writeMethod));
+            propertyTypes.put(key, descriptor.getPropertyType());
+        }
+    }
+
+    public static <T> IndexedBeanRowMapper<T> of(Class<T> mappedClass) {
+        return new IndexedBeanRowMapper<>(mappedClass);
+    }
+
+    @Override
+    public T mapRow(ResultSet rs, int rowNum) throws SQLException {
+        BoundPlan<T> plan = boundPlan;
+        if (plan == null || plan.resultSet() != rs) {
+            plan = new BoundPlan<>(rs, planFor(rs.getMetaData()));
+            boundPlan = plan;
+        }
+
+        T target = instantiator.get();
+        ColumnBinder<T>[] binders = plan.binders();
+        for (int i = 0; i < binders.length; i++) {
+            ColumnBinder<T> binder = binders[i];
+            if (binder != null) {
+                binder.bind(rs, i + 1, target);
+            }
+        }
+        return target;
+    }
+
+    private ColumnBinder<T>[] planFor(ResultSetMetaData metaData) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        String[] columns = new String[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columns[i] = normalize(JdbcUtils.lookupColumnName(metaData, i + 1));
+        }
+        return planCache.computeIfAbsent(String.join(",", columns), signature -> buildPlan(columns));
+    }
+
+    @SuppressWarnings("unchecked")
+    private ColumnBinder<T>[] buildPlan(String[] columns) {
+        ColumnBinder<T>[] binders = new ColumnBinder[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            BiConsumer<T, Object> setter = setters.get(columns[i]);
+            if (setter != null) {
+                binders[i] = binderFor(propertyTypes.get(columns[i]), setter);
+            }
+        }
+        return binders;
+    }
+
+    private static <T> ColumnBinder<T> binderFor(Class<?> type, BiConsumer<T, Object> setter) {
+        if (type == String.class) {
+            return (rs, index, target) -> setter.accept(target, rs.getString(index));
+        }
+        if (type == Long.class || type == long.class) {
+            return (rs, index, target) -> {
+                long value = rs.getLong(index);
+                if (!rs.wasNull()) {
+                    setter.accept(target, value);
+                } else if (!type.isPrimitive()) {
+                    setter.accept(target, null);
+                }
+            };
+        }
+        if (type == Integer.class || type == int.class) {
+            return (rs, index, target) -> {
+                int value = rs.getInt(index);
+                if (!rs.wasNull()) {
+                    setter.accept(target, value);
+                } else if (!type.isPrimitive()) {
+                    setter.accept(target, null);
+                }
+            };
+        }
+        if (type == Double.class || type == double.class) {
+            return (rs, index, target) -> {
+                double value = rs.getDouble(index);
+                if (!rs.wasNull()) {
+                    setter.accept(target, value);
+                } else if (!type.isPrimitive()) {
+                    setter.accept(target, null);
+                }
+            };
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return (rs, index, target) -> {
+                boolean value = rs.getBoolean(index);
+                if (!rs.wasNull()) {
+                    setter.accept(target, value);
+                } else if (!type.isPrimitive()) {
+                    setter.accept(target, null);
+                }
+            };
+        }
+        if (type == LocalDateTime.class) {
+            return (rs, index, target) -> setter.accept(target, rs.getObject(index, LocalDateTime.class));
+        }
+        if (type == LocalDate.class) {
+            return (rs, index, target) -> setter.accept(target, rs.getObject(index, LocalDate.class));
+        }
+        if (type == BigDecimal.class) {
+            return (rs, index, target) -> setter.accept(target, rs.getBigDecimal(index));
+        }
+        return (rs, index, target) -> setter.accept(target, rs.getObject(index, type));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Supplier<T> createInstantiator(Class<T> mappedClass) {
+        try {
+            MethodHandle constructor = LOOKUP.findConstructor(mappedClass, MethodType.methodType(void.class));
+            CallSite site = LambdaMetafactory.metafactory(
+                    LOOKUP,
+                    "get",
+                    MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class),
+                    constructor,
+                    MethodType.methodType(mappedClass));
+            return (Supplier<T>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException("기본 생성자를 찾을 수 없음: " + mappedClass.getName(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> BiConsumer<T, Object> createSetter(Class<T> mappedClass, Method writeMethod) {
+        try {
+            MethodHandle setter = LOOKUP.unreflect(writeMethod);
+            Class<?> parameterType = ClassUtils.resolvePrimitiveIfNecessary(writeMethod.getParameterTypes()[0]);
+            CallSite site = LambdaMetafactory.metafactory(
+                    LOOKUP,
+                    "accept",
+                    MethodType.methodType(BiConsumer.class),
+                    MethodType.methodType(void.class, Object.class, Object.class),
+                    setter,
+                    MethodType.methodType(void.class, mappedClass, parameterType));
+            return (BiConsumer<T, Object>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException("setter 변환 실패: " + writeMethod, e);
+        }
+    }
+
+    private static String normalize(String name) {
+        StringBuilder normalized = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c != '_' && c != ' ') {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    @FunctionalInterface
+    private interface ColumnBinder<T> {
+        void bind(ResultSet rs, int index, T target) throws SQLException;
+    }
+
+    private record BoundPlan<T>(ResultSet resultSet, ColumnBinder<T>[] binders) {
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.killBatch.jdbcBatch;
 
+import com.example.killBatch.chunk.AdaptiveChunkCompletionPolicy;
+import java.time.Duration;
 import java.util.Map;
 import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +17,7 @@ import org.springframework.batch.item.database.JdbcPagingItemReader;
 import org.springframework.batch.item.database.Order;
 import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
 import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -28,6 +31,9 @@ public class JdbcBatchItemWriterTestConfig {
     private final PlatformTransactionManager transactionManager;
     private final DataSource dataSource;
 
+    @Value("${kill-batch.chunk.target-transaction-millis:1000}")
+    private long targetTransactionMillis;
+
     @Bean
     public Job jdbcBatchItemWriterTestJob() {
         return new JobBuilder("jdbcBatchItemWriterTestJob", jobRepository)
@@ -35,16 +41,29 @@ public class JdbcBatchItemWriterTestConfig {
                 .build();
     }
 
+    /**
+     * 청크 크기 - AdaptiveChunkCompletionPolicy
+     * 10건에서 시작, 청크 트랜잭션 소요 시간이 목표치에 가까워지도록 자동 조정
+     */
     @Bean
     public Step jdbcBatchItemWriterStep() {
+        AdaptiveChunkCompletionPolicy completionPolicy = jdbcBatchItemWriterChunkPolicy();
         return new StepBuilder("jdbcBatchItemWriterStep", jobRepository)
-                .<HackedOrder, HackedOrder>chunk(10, transactionManager)
+                .<HackedOrder, HackedOrder>chunk(completionPolicy, transactionManager)
                 .reader(jdbcBatchItemWriterTestReader())
                 .processor(jdbcBatchItemWriterTestProcessor())
-                .writer(jdbcBatchItemWriter())
+                .writer(copyStagingOrderStatusWriter())
+                .listener(completionPolicy)
+                .stream(completionPolicy)
                 .build();
     }
 
+    @Bean
+    public AdaptiveChunkCompletionPolicy jdbcBatchItemWriterChunkPolicy() {
+        return new AdaptiveChunkCompletionPolicy("jdbcBatchItemWriterStep",
+                10, 1, 50_000, Duration.ofMillis(targetTransactionMillis));
+    }
+
     @Bean
     public JdbcPagingItemReader<HackedOrder> jdbcBatchItemWriterTestReader() {
         return new JdbcPagingItemReaderBuilder<HackedOrder>()
@@ -56,7 +75,7 @@ public class JdbcBatchItemWriterTestConfig {
                 .whereClause("WHERE (status = 'SHIPPED' and shipping_id is null) " +
                              "or (status = 'CANCELLED' and shipping_id is not null)")
                 .sortKeys(Map.of("id", Order.ASCENDING))
-                .beanRowMapper(HackedOrder.class)
+                .rowMapper(IndexedBeanRowMapper.of(HackedOrder.class))
                 .build();
     }
 
@@ -89,5 +108,15 @@ public class JdbcBatchItemWriterTestConfig {
                 .build();
     }
 
+    /**
+     * CopyStagingOrderStatusItemWriter
+     * PostgreSQL -> 청크 전체를 COPY로 스테이징 테이블에 적재 후 UPDATE ... FROM 한 번으로 반영
+     * 그 외(H2 등) -> jdbcBatchItemWriter로 위임
+     */
+    @Bean
+    public CopyStagingOrderStatusItemWriter copyStagingOrderStatusWriter() {
+        return new CopyStagingOrderStatusItemWriter(dataSource, jdbcBatchItemWriter(), true);
+    }
+
 }
 
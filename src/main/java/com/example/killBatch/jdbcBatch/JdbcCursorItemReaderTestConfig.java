@@ -1,5 +1,6 @@
 package com.example.killBatch.jdbcBatch;
 
+import com.example.killBatch.itemStream.PrefetchingItemStreamReader;
 import java.time.LocalDateTime;
 import java.util.List;
 import javax.sql.DataSource;
@@ -37,7 +38,7 @@ public class JdbcCursorItemReaderTestConfig {
     public Step jdbcCursorItemReaderTestStep() {
         return new StepBuilder("jdbcCursorItemReaderTestStep", jobRepository)
                 .<Victim, Victim>chunk(5, transactionManager)
-                .reader(jdbcCursorItemReader())
+                .reader(prefetchingJdbcCursorItemReader())
                 .writer(jdbcCursorItemReaderTestWrite())
                 .build();
     }
@@ -83,7 +84,7 @@ public class JdbcCursorItemReaderTestConfig {
                 //쿼리를 통해 갖고올 데이터 갯수 힌트
                 .fetchSize(100)
                 //결과 데이터를 객체로 변환
-                .beanRowMapper(Victim.class)
+                .rowMapper(IndexedBeanRowMapper.of(Victim.class))
 //                .rowMapper((rs, rowNum) -> {
 //                    Victim victim = new Victim();
 //                    victim.setId(rs.getLong("id"));
@@ -96,6 +97,19 @@ public class JdbcCursorItemReaderTestConfig {
                 .build();
     }
 
+    /**
+     * PrefetchingItemStreamReader
+     * 별도 스레드가 jdbcCursorItemReader를 미리 읽어 queue에 쌓아둠
+     * -> 청크를 쓰고 커밋하는 동안에도 조회 + 매핑이 진행
+     * -> queue 크기는 fetchSize의 2배 (DB 왕복 한 번 분량을 항상 앞서 확보)
+     *
+     * 재시작 위치는 Step이 실제로 소비한 개수 기준으로 기록
+     */
+    @Bean
+    public PrefetchingItemStreamReader<Victim> prefetchingJdbcCursorItemReader() {
+        return new PrefetchingItemStreamReader<>(jdbcCursorItemReader(), 200);
+    }
+
     @Bean
     public ItemWriter<Victim> jdbcCursorItemReaderTestWrite() {
         return items -> {
@@ -71,7 +71,7 @@ public class JdbcPagingItemReaderTestConfig {
                         "status", "TERMINATED",
                         "terminatedAt", LocalDateTime.now()
                 ))
-                .beanRowMapper(Victim.class)
+                .rowMapper(IndexedBeanRowMapper.of(Victim.class))
                 .build();
     }
 
@@ -0,0 +1,123 @@
+package com.example.killBatch.jpaBatch;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 게시글 차단 점수 계산 엔진
+ *
+ * 신고 1건의 점수 = 유형 가중치 * 신고자 신뢰도 가중치 * 시간 감쇠
+ * - 유형 가중치 - reportType 별 설정값 (설정에 없는 유형은 unknownTypeWeight)
+ * - 신뢰도 가중치 - levelWeights[reporterLevel - 1] (범위 밖 레벨은 양 끝 값으로 보정)
+ * - 시간 감쇠 - 0.5 ^ (기준 시각 - 신고 시각) / halfLife (기준 시각 이후 신고는 감쇠 없음)
+ * 게시글 점수 = 신고 점수 합계, maxScore로 제한
+ *
+ * 원시 배열 기반 계산
+ * - reportType -> typeId(int)로 미리 변환 (interning), 가중치는 double[]에서 인덱스 조회
+ * - 레벨 int[], 신고 시각 long[](epoch seconds) -> 박싱, 신고당 객체 생성 없음
+ * - Math.random() 없음 -> 같은 입력이면 항상 같은 점수 (재현 가능)
+ *
+ * 집계 입력 (scoreGroups)
+ * - 같은 (유형, 레벨) 신고를 묶어 "감쇠 적용 건수" = SUM(0.5 ^ (기준 시각 - 신고 시각) / halfLife)로 전달
+ * - 신고 점수 합계를 (유형, 레벨)별로 묶은 것이므로 score()와 같은 값 (부동소수점 합산 순서 차이만 존재)
+ *
+ * 불변 객체 -> 여러 스레드에서 공유 가능 (배열은 호출자가 스레드별로 준비)
+ */
+public final class BlockScoreEngine {
+
+    public static final int UNKNOWN_TYPE = 0;
+
+    private final Map<String, Integer> typeIds = new HashMap<>();
+    private final double[] typeWeights;
+    private final double[] levelWeights;
+    private final double decayPerSecond;
+    private final double maxScore;
+
+    /**
+     * @param typeWeights       reportType -> 가중치
+     * @param unknownTypeWeight 설정에 없는 reportType 가중치
+     * @param levelWeights      reporterLevel 1, 2, 3... 순서의 가중치
+     * @param halfLife          점수가 절반이 되는 경과 시간
+     * @param maxScore          게시글 점수 상한
+     */
+    public BlockScoreEngine(Map<String, Double> typeWeights, double unknownTypeWeight,
+            double[] levelWeights, Duration halfLife, double maxScore) {
+        if (levelWeights.length == 0) {
+            throw new IllegalArgumentException("levelWeights는 비어있을 수 없음");
+        }
+        if (halfLife.isNegative() || halfLife.isZero()) {
+            throw new IllegalArgumentException("halfLife는 0보다 커야 함: " + halfLife);
+        }
+
+        this.typeWeights = new double[typeWeights.size() + 1];
+        this.typeWeights[UNKNOWN_TYPE] = unknownTypeWeight;
+        int nextId = UNKNOWN_TYPE + 1;
+        for (Map.Entry<String, Double> entry : typeWeights.entrySet()) {
+            this.typeIds.put(entry.getKey(), nextId);
+            this.typeWeights[nextId] = entry.getValue();
+            nextId++;
+        }
+
+        this.levelWeights = levelWeights.clone();
+        // toSeconds()는 1초 미만을 버림 (0.5초 -> 0 -> 0으로 나눔) -> 나노초 단위로 계산
+        this.decayPerSecond = Math.log(2) / (halfLife.toNanos() / 1e9);
+        this.maxScore = maxScore;
+    }
+
+    /**
+     * reportType -> typeId
+     * Integer 캐시 범위(-128 ~ 127) 내의 값이므로 조회 시 객체 생성 없음
+     */
+    public int typeId(String reportType) {
+        if (reportType == null) {
+            return UNKNOWN_TYPE;
+        }
+        Integer id = typeIds.get(reportType);
+        return id == null ? UNKNOWN_TYPE : id;
+    }
+
+    /**
+     * @param typeIds          typeId(reportType) 값 배열
+     * @param levels           reporterLevel 배열
+     * @param reportedAt       신고 시각 배열 (epoch seconds)
+     * @param count            배열 중 유효한 신고 수 (배열 재사용을 위해 length와 분리)
+     * @param referenceEpochSecond 감쇠 기준 시각 (epoch seconds)
+     */
+    public double score(int[] typeIds, int[] levels, long[] reportedAt, int count,
+            long referenceEpochSecond) {
+        int maxLevelIndex = levelWeights.length - 1;
+        double sum = 0;
+        for (int i = 0; i < count; i++) {
+            int levelIndex = Math.min(Math.max(levels[i] - 1, 0), maxLevelIndex);
+            long age = Math.max(referenceEpochSecond - reportedAt[i], 0);
+            sum += typeWeights[typeIds[i]] * levelWeights[levelIndex] * Math.exp(-decayPerSecond * age);
+        }
+        return Math.min(sum, maxScore);
+    }
+
+    /**
+     * (유형, 레벨)별로 묶인 신고 점수 계산
+     *
+     * @param typeIds       typeId(reportType) 값 배열
+     * @param levels        reporterLevel 배열
+     * @param decayedCounts 그룹별 감쇠 적용 건수 (감쇠 없으면 신고 건수)
+     * @param count         배열 중 유효한 그룹 수
+     */
+    public double scoreGroups(int[] typeIds, int[] levels, double[] decayedCounts, int count) {
+        int maxLevelIndex = levelWeights.length - 1;
+        double sum = 0;
+        for (int i = 0; i < count; i++) {
+            int levelIndex = Math.min(Math.max(levels[i] - 1, 0), maxLevelIndex);
+            sum += typeWeights[typeIds[i]] * levelWeights[levelIndex] * decayedCounts[i];
+        }
+        return Math.min(sum, maxScore);
+    }
+
+    /**
+     * 초당 감쇠 상수 (ln 2 / halfLife) - 감쇠 적용 건수를 DB에서 집계할 때 사용
+     */
+    public double decayPerSecond() {
+        return decayPerSecond;
+    }
+}
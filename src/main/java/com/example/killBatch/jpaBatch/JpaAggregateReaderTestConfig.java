@@ -0,0 +1,173 @@
+package com.example.killBatch.jpaBatch;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JpaCursorItemReader;
+import org.springframework.batch.item.database.builder.JpaCursorItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 집계 프로젝션 Reader - 게시글 차단 점수 계산
+ *
+ * 기존 jpaCursorItemReader
+ * SELECT p FROM Post p JOIN FETCH p.reports r
+ * 1. Post 엔티티 + 모든 Report 엔티티 생성 (Hibernate hydration)
+ * 2. fetch join -> 신고 수만큼 Post 행 중복 전송
+ * 3. 신고가 수천 건인 게시글 -> 영속성 컨텍스트 메모리 증가
+ * -> PostBlockProcessor는 신고 목록을 순회만 하는데도 전부 엔티티로 로딩
+ *
+ * 개선
+ * GROUP BY (게시글, 신고 유형, 신고자 레벨) -> 신고 수, 감쇠 적용 건수를 DB에서 집계
+ * 결과 -> PostReportGroup (불변 DTO) -> PostReportSummaryReader가 게시글당 1건으로 묶음
+ * 점수 -> BlockScoreEngine (jpaCursorItemReader의 PostBlockProcessor와 같은 입력이면 같은 점수)
+ *
+ * Reader 선택
+ * JpaCursorItemReader - 쿼리 1회, 스트리밍 (DTO이므로 detach 대상도 없음)
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class JpaAggregateReaderTestConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Bean
+    public Job jpaAggregateReaderTestJob(Step jpaAggregateReaderTestStep) {
+        return new JobBuilder("jpaAggregateReaderTestJob", jobRepository)
+                .start(jpaAggregateReaderTestStep)
+                .build();
+    }
+
+    @Bean
+    public Step jpaAggregateReaderTestStep(
+            PostReportSummaryReader postReportSummaryReader,
+            PostReportSummaryBlockProcessor postReportSummaryBlockProcessor,
+            ItemWriter<BlockedPost> jpaCursorItemReaderTestWriter
+    ) {
+        return new StepBuilder("jpaAggregateReaderTestStep", jobRepository)
+                .<PostReportSummary, BlockedPost>chunk(5, transactionManager)
+                .reader(postReportSummaryReader)
+                .processor(postReportSummaryBlockProcessor)
+                .writer(jpaCursorItemReaderTestWriter)
+                .build();
+    }
+
+    /**
+     * 게시글 단위로 묶는 Reader - Step에는 이 Reader만 등록 (ItemStream 위임)
+     */
+    @Bean
+    @StepScope
+    public PostReportSummaryReader postReportSummaryReader(
+            JpaCursorItemReader<PostReportGroup> postReportGroupReader
+    ) {
+        return new PostReportSummaryReader(postReportGroupReader);
+    }
+
+    /**
+     * Report 기준으로 조회 후 (게시글, 신고 유형, 신고자 레벨)로 GROUP BY
+     * -> 기존 쿼리와 동일하게 기간 내 신고만 집계 대상
+     * -> p.title, p.writer는 스칼라 값으로만 조회 (Post 엔티티 생성 X)
+     *
+     * 감쇠 적용 건수 - SUM(EXP(-decayPerSecond * (endDateTime - 신고 시각)))
+     * -> PostBlockProcessor와 같은 감쇠 기준 시각(endDateTime), 같은 감쇠 상수(BlockScoreEngine)
+     * -> 기간 조건(reportedAt < endDateTime)에 의해 지수는 항상 0 이하 (overflow 없음)
+     * -> 신고 시각은 UTC 기준 epoch 초로 비교 (PostBlockProcessor의 toEpochSecond(UTC)와 동일)
+     */
+    @Bean
+    @StepScope
+    public JpaCursorItemReader<PostReportGroup> postReportGroupReader(
+            BlockScoreEngine blockScoreEngine,
+            @Value("#{jobParameters['startDateTime']}") LocalDateTime startDateTime,
+            @Value("#{jobParameters['endDateTime']}") LocalDateTime endDateTime
+    ) {
+        return new JpaCursorItemReaderBuilder<PostReportGroup>()
+                .name("postReportGroupReader")
+                .entityManagerFactory(entityManagerFactory)
+                .queryString("""
+                        SELECT new com.example.killBatch.jpaBatch.PostReportGroup(
+                            p.id, p.title, p.writer,
+                            r.reportType,
+                            r.reporterLevel,
+                            COUNT(r),
+                            SUM(EXP(:negativeDecayPerSecond
+                                * (:referenceEpochSecond - EXTRACT(EPOCH FROM r.reportedAt)))))
+                        FROM Report r JOIN r.post p
+                        WHERE r.reportedAt >= :startDateTime AND r.reportedAt < :endDateTime
+                        GROUP BY p.id, p.title, p.writer, r.reportType, r.reporterLevel
+                        ORDER BY p.id
+                        """)
+                .parameterValues(Map.of(
+                        "startDateTime", startDateTime,
+                        "endDateTime", endDateTime,
+                        "negativeDecayPerSecond", -blockScoreEngine.decayPerSecond(),
+                        "referenceEpochSecond", endDateTime.toEpochSecond(ZoneOffset.UTC)
+                ))
+                .build();
+    }
+
+    /**
+     * 집계 값 기반 차단 점수 계산 - BlockScoreEngine 사용 (PostBlockProcessor와 동일한 점수)
+     *
+     * (유형, 레벨)별 감쇠 적용 건수 -> BlockScoreEngine.scoreGroups()
+     * 게시글당 그룹 수는 (유형 수 x 레벨 수) 이하
+     */
+    @Component
+    @RequiredArgsConstructor
+    public static class PostReportSummaryBlockProcessor implements ItemProcessor<PostReportSummary, BlockedPost> {
+
+        private static final double BLOCK_THRESHOLD = 7.0;
+
+        private final BlockScoreEngine blockScoreEngine;
+
+        @Override
+        public BlockedPost process(PostReportSummary summary) {
+            double blockScore = calculateBlockScore(summary.groups());
+
+            if (blockScore >= BLOCK_THRESHOLD) {
+                return BlockedPost.builder()
+                        .postId(summary.postId())
+                        .writer(summary.writer())
+                        .title(summary.title())
+                        .reportCount(Math.toIntExact(summary.reportCount()))
+                        .blockScore(blockScore)
+                        .blockedAt(LocalDateTime.now())
+                        .build();
+            }
+
+            return null;  // 무죄 방면
+        }
+
+        private double calculateBlockScore(List<PostReportGroup> groups) {
+            int count = groups.size();
+            int[] typeIds = new int[count];
+            int[] levels = new int[count];
+            double[] decayedCounts = new double[count];
+            for (int i = 0; i < count; i++) {
+                PostReportGroup group = groups.get(i);
+                typeIds[i] = blockScoreEngine.typeId(group.reportType());
+                levels[i] = group.reporterLevel();
+                decayedCounts[i] = group.decayedCount();
+            }
+            return blockScoreEngine.scoreGroups(typeIds, levels, decayedCounts, count);
+        }
+    }
+}
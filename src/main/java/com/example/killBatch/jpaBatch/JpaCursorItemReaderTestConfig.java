@@ -1,7 +1,9 @@
 package com.example.killBatch.jpaBatch;
 
 import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
@@ -102,16 +104,61 @@ public class JpaCursorItemReaderTestConfig {
         });
     }
 
+    /**
+     * 차단 점수 엔진 설정
+     * kill-batch.block-score.type-weights - reportType 별 가중치 (SpEL Map)
+     * kill-batch.block-score.level-weights - reporterLevel 1 ~ 5 가중치
+     * kill-batch.block-score.half-life-hours - 신고 점수가 절반이 되는 시간
+     */
+    @Bean
+    public BlockScoreEngine blockScoreEngine(
+            @Value("#{${kill-batch.block-score.type-weights:{'SPAM': 1.0, 'ABUSE': 2.0, 'ILLEGAL': 3.0, 'FAKE_NEWS': 1.5}}}")
+            Map<String, Double> typeWeights,
+            @Value("${kill-batch.block-score.unknown-type-weight:0.5}") double unknownTypeWeight,
+            @Value("${kill-batch.block-score.level-weights:0.2,0.4,0.6,0.8,1.0}") double[] levelWeights,
+            @Value("${kill-batch.block-score.half-life-hours:72}") long halfLifeHours
+    ) {
+        return new BlockScoreEngine(typeWeights, unknownTypeWeight, levelWeights,
+                Duration.ofHours(halfLifeHours), 10.0);
+    }
+
+    /**
+     * 차단 점수 = BlockScoreEngine (신고 유형, 신고자 신뢰도, 신고 시각 감쇠)
+     *
+     * 감쇠 기준 시각 - jobParameters['endDateTime'] (없으면 게시글의 마지막 신고 시각)
+     * -> 같은 Job 파라미터로 재실행하면 같은 점수
+     *
+     * 신고 목록 -> 원시 배열 변환 시 배열은 재사용 (게시글마다 새로 만들지 않음)
+     * @StepScope -> Step 실행마다 새 인스턴스 (병렬 Step 간 배열 공유 X)
+     */
     @Component
+    @StepScope
     public static class PostBlockProcessor implements ItemProcessor<Post, BlockedPost> {
 
+        private static final double BLOCK_THRESHOLD = 7.0;
+
+        private final BlockScoreEngine blockScoreEngine;
+        private final LocalDateTime endDateTime;
+
+        private int[] typeIds = new int[16];
+        private int[] levels = new int[16];
+        private long[] reportedAt = new long[16];
+
+        public PostBlockProcessor(
+                BlockScoreEngine blockScoreEngine,
+                @Value("#{jobParameters['endDateTime']}") LocalDateTime endDateTime
+        ) {
+            this.blockScoreEngine = blockScoreEngine;
+            this.endDateTime = endDateTime;
+        }
+
         @Override
         public BlockedPost process(Post post) {
-            // 각 신고의 신뢰도를 기반으로 차단 점수 계산
+            // 각 신고의 유형, 신뢰도, 시각을 기반으로 차단 점수 계산
             double blockScore = calculateBlockScore(post.getReports());
 
             // 차단 점수가 기준치를 넘으면 처형 결정
-            if (blockScore >= 7.0) {
+            if (blockScore >= BLOCK_THRESHOLD) {
                 return BlockedPost.builder()
                         .postId(post.getId())
                         .writer(post.getWriter())
@@ -126,33 +173,37 @@ public class JpaCursorItemReaderTestConfig {
         }
 
         private double calculateBlockScore(List<Report> reports) {
-            // 각 신고들의 정보를 시그니처에 포함시켜 마치 사용하는 것처럼 보이지만...
-            for (Report report : reports) {
-                analyzeReportType(report.getReportType());            // 신고 유형 분석
-                checkReporterTrust(report.getReporterLevel());        // 신고자 신뢰도 확인
-                validateEvidence(report.getEvidenceData());           // 증거 데이터 검증
-                calculateTimeValidity(report.getReportedAt());        // 시간 가중치 계산
+            int count = reports.size();
+            ensureCapacity(count);
+
+            long latest = Long.MIN_VALUE;
+            for (int i = 0; i < count; i++) {
+                Report report = reports.get(i);
+                typeIds[i] = blockScoreEngine.typeId(report.getReportType());
+                levels[i] = report.getReporterLevel();
+                if (report.getReportedAt() == null) {
+                    // 신고 시각 없음 -> 감쇠 없이 계산
+                    reportedAt[i] = Long.MAX_VALUE;
+                } else {
+                    // ZoneOffset.UTC 기준 초 변환 -> 중간 객체 생성 없음
+                    reportedAt[i] = report.getReportedAt().toEpochSecond(ZoneOffset.UTC);
+                    latest = Math.max(latest, reportedAt[i]);
+                }
             }
 
-            // 실제로는 그냥 랜덤 값을 반환
-            return Math.random() * 10;  // 0~10 사이의 랜덤 값
-        }
-
-        // 아래는 실제로는 아무것도 하지 않는 메서드들
-        private void analyzeReportType(String reportType) {
-            // 신고 유형 분석하는 척
+            long reference = endDateTime != null
+                    ? endDateTime.toEpochSecond(ZoneOffset.UTC)
+                    : (latest == Long.MIN_VALUE ? 0 : latest);
+            return blockScoreEngine.score(typeIds, levels, reportedAt, count, reference);
         }
 
-        private void checkReporterTrust(int reporterLevel) {
-            // 신고자 신뢰도 확인하는 척
-        }
-
-        private void validateEvidence(String evidenceData) {
-            // 증거 검증하는 척
-        }
-
-        private void calculateTimeValidity(LocalDateTime reportedAt) {
-            // 시간 가중치 계산하는 척
+        private void ensureCapacity(int count) {
+            if (typeIds.length < count) {
+                int capacity = Math.max(count, typeIds.length * 2);
+                typeIds = new int[capacity];
+                levels = new int[capacity];
+                reportedAt = new long[capacity];
+            }
         }
     }
 }
@@ -4,6 +4,7 @@ import com.example.killBatch.jpaBatch.JpaCursorItemReaderTestConfig.PostBlockPro
 import jakarta.persistence.EntityManagerFactory;
 import java.time.LocalDateTime;
 import java.util.Map;
+import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -12,11 +13,8 @@ import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.JpaItemWriter;
-import org.springframework.batch.item.database.JpaPagingItemReader;
 import org.springframework.batch.item.database.builder.JpaItemWriterBuilder;
-import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -30,6 +28,7 @@ public class JpaItemWriterTestConfig {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final EntityManagerFactory entityManagerFactory;
+    private final DataSource dataSource;
 
     @Bean
     public Job jpaItemWriterTestJob(Step jpaItemWriterTestStep) {
@@ -40,40 +39,40 @@ public class JpaItemWriterTestConfig {
 
     @Bean
     public Step jpaItemWriterTestStep(
-            JpaPagingItemReader<Post> jpaItemWriterTestReader,
+            JpaKeysetItemReader<Post> jpaItemWriterTestReader,
             PostBlockProcessor postBlockProcessor,
-            ItemWriter<BlockedPost> jpaItemWriter
+            StatelessSessionBlockedPostWriter statelessSessionBlockedPostWriter
     ) {
         return new StepBuilder("jpaItemWriterTestStep", jobRepository)
                 .<Post, BlockedPost>chunk(5, transactionManager)
                 .reader(jpaItemWriterTestReader)
                 .processor(postBlockProcessor)
-                .writer(jpaItemWriter)
+                .writer(statelessSessionBlockedPostWriter)
                 .build();
     }
 
+    /**
+     * OFFSET 페이징(JpaPagingItemReader) -> 키셋 페이징
+     * 쿼리는 JpaPagingItemReaderTestConfig.KEYSET_QUERY 공유
+     */
     @Bean
     @StepScope
-    public JpaPagingItemReader<Post> jpaItemWriterTestReader(
+    public JpaKeysetItemReader<Post> jpaItemWriterTestReader(
             @Value("#{jobParameters['startDateTime']}") LocalDateTime startDateTime,
             @Value("#{jobParameters['endDateTime']}") LocalDateTime endDateTime
     ) {
-        return new JpaPagingItemReaderBuilder<Post>()
-                .name("jpaItemWriterTestReader")
-                .entityManagerFactory(entityManagerFactory)
-                .queryString("""
-                    SELECT DISTINCT p FROM Post p
-                    JOIN p.reports r
-                    WHERE r.reportedAt >= :startDateTime AND r.reportedAt < :endDateTime
-                    ORDER BY p.id ASC
-                    """)
-                .parameterValues(Map.of(
+        return new JpaKeysetItemReader<>(
+                "jpaItemWriterTestReader",
+                entityManagerFactory,
+                JpaPagingItemReaderTestConfig.KEYSET_QUERY,
+                Post.class,
+                Map.of(
                         "startDateTime", startDateTime,
                         "endDateTime", endDateTime
-                ))
-                .pageSize(5)
-                .transacted(false)
-                .build();
+                ),
+                Post::getId,
+                5
+        );
     }
 
     /**
@@ -94,4 +93,16 @@ public class JpaItemWriterTestConfig {
                 .build();
     }
 
+    /**
+     * StatelessSession 일괄 INSERT (Step에서 사용)
+     * - 영속성 컨텍스트 X, JDBC 배치 크기 = hibernate.jdbc.batch_size
+     * - 재실행 시 이미 저장된 post_id는 제외
+     */
+    @Bean
+    public StatelessSessionBlockedPostWriter statelessSessionBlockedPostWriter(
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}") int batchSize
+    ) {
+        return new StatelessSessionBlockedPostWriter(entityManagerFactory, dataSource, batchSize);
+    }
+
 }
@@ -0,0 +1,155 @@
+package com.example.killBatch.jpaBatch;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+
+/**
+ * JPA 키셋(keyset) 페이징 Reader - JpaPagingItemReader(OFFSET) 대체
+ *
+ * JpaPagingItemReader 한계
+ * - 페이지마다 LIMIT :pageSize OFFSET :page * pageSize
+ *      -> DB는 OFFSET 만큼 행을 읽고 버림 -> 뒤 페이지일수록 느려짐
+ * - 실행 도중 앞쪽 데이터가 추가/삭제되면 OFFSET이 밀려 누락 또는 중복 발생
+ *
+ * 동작
+ * 1. 쿼리에 :lastId 조건 포함 -> WHERE p.id > :lastId ... ORDER BY p.id
+ * 2. setMaxResults(pageSize) -> LIMIT :pageSize (OFFSET 없음)
+ *      -> PK 인덱스에서 바로 시작 위치를 찾으므로 페이지 위치와 무관하게 일정한 비용
+ * 3. 페이지를 다 읽으면 마지막 id로 다음 페이지 조회
+ * 4. 페이지 조회 후 EntityManager.clear() -> 준영속 상태 (JpaPagingItemReader와 동일)
+ *
+ * 재시작 (ItemStream)
+ * - Step 스레드가 실제로 반환한 마지막 id를 ExecutionContext(last.id)에 저장
+ * - 재시작 시 last.id 이후부터 조회 -> read.count 만큼 다시 읽고 건너뛰는 과정(jumpToItem) 없음
+ *
+ * 주의사항
+ * - 정렬 기준 컬럼은 유일해야 한다 (PK)
+ * - 쿼리는 반드시 :lastId 조건과 ORDER BY 정렬 컬럼을 포함해야 한다
+ * - 트랜잭션 미참여 (JpaPagingItemReader의 transacted(false)와 동일) -> LAZY 연관 탐색 불가
+ */
+@Slf4j
+public class JpaKeysetItemReader<T> extends AbstractItemCountingItemStreamItemReader<T> {
+
+    public static final String LAST_ID_PARAMETER = "lastId";
+    private static final String LAST_ID_KEY = "last.id";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final String queryString;
+    private final Class<T> resultType;
+    private final Map<String, Object> parameterValues;
+    private final Function<T, Long> idExtractor;
+    private final int pageSize;
+
+    private EntityManager entityManager;
+    private Iterator<T> page;
+    private boolean lastPage;
+
+    // 다음 페이지 조회 기준 (조회한 마지막 id)
+    private long pageCursor;
+    // 재시작 기준 (반환한 마지막 id)
+    private long lastReturnedId;
+
+    /**
+     * @param queryString     :lastId 조건과 ORDER BY 키 컬럼을 포함한 JPQL
+     * @param parameterValues :lastId 외 쿼리 파라미터
+     * @param idExtractor     결과 객체 -> 키 컬럼 값
+     */
+    public JpaKeysetItemReader(String name, EntityManagerFactory entityManagerFactory,
+            String queryString, Class<T> resultType, Map<String, Object> parameterValues,
+            Function<T, Long> idExtractor, int pageSize) {
+        setName(name);
+        this.entityManagerFactory = entityManagerFactory;
+        this.queryString = queryString;
+        this.resultType = resultType;
+        this.parameterValues = parameterValues;
+        this.idExtractor = idExtractor;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        lastReturnedId = Long.MIN_VALUE;
+        if (isSaveState() && executionContext.containsKey(getExecutionContextKey(LAST_ID_KEY))) {
+            lastReturnedId = executionContext.getLong(getExecutionContextKey(LAST_ID_KEY));
+            log.info("키셋 Reader 재시작 - id > {} 부터 조회", lastReturnedId);
+        }
+        super.open(executionContext);
+    }
+
+    @Override
+    protected void doOpen() {
+        entityManager = entityManagerFactory.createEntityManager();
+        pageCursor = lastReturnedId;
+        page = null;
+        lastPage = false;
+    }
+
+    @Override
+    protected T doRead() {
+        if (page == null || !page.hasNext()) {
+            if (lastPage) {
+                return null;
+            }
+            fetchPage();
+            if (!page.hasNext()) {
+                return null;
+            }
+        }
+
+        T item = page.next();
+        lastReturnedId = idExtractor.apply(item);
+        return item;
+    }
+
+    private void fetchPage() {
+        TypedQuery<T> query = entityManager.createQuery(queryString, resultType)
+                .setParameter(LAST_ID_PARAMETER, pageCursor)
+                .setMaxResults(pageSize);
+        parameterValues.forEach(query::setParameter);
+
+        List<T> results = query.getResultList();
+        // 페이지 단위로 영속성 컨텍스트 비움 -> 메모리 증가 방지
+        entityManager.clear();
+
+        if (!results.isEmpty()) {
+            pageCursor = idExtractor.apply(results.get(results.size() - 1));
+        }
+        lastPage = results.size() < pageSize;
+        page = results.iterator();
+
+        log.debug("키셋 페이지 조회: {}건, 다음 기준 id > {}", results.size(), pageCursor);
+    }
+
+    /**
+     * 키셋 방식은 last.id로 시작 위치를 찾으므로 건너뛸 필요 없음
+     */
+    @Override
+    protected void jumpToItem(int itemIndex) {
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        super.update(executionContext);
+        if (isSaveState()) {
+            executionContext.putLong(getExecutionContextKey(LAST_ID_KEY), lastReturnedId);
+        }
+    }
+
+    @Override
+    protected void doClose() {
+        if (entityManager != null) {
+            entityManager.close();
+            entityManager = null;
+        }
+        page = null;
+    }
+}
@@ -30,6 +30,16 @@ public class JpaPagingItemReaderTestConfig {
     private final PlatformTransactionManager transactionManager;
     private final EntityManagerFactory entityManagerFactory;
 
+    static final String KEYSET_QUERY = """
+            SELECT p FROM Post p
+            WHERE p.id > :lastId
+            AND EXISTS (
+                SELECT 1 FROM Report r
+                WHERE r.post = p AND r.reportedAt >= :startDateTime AND r.reportedAt < :endDateTime
+            )
+            ORDER BY p.id ASC
+            """;
+
     @Bean
     public Job jpaPagingItemReaderTestJob(Step jpaPagingItemReaderTestStep) {
         return new JobBuilder("jpaPagingItemReaderTestJob", jobRepository)
@@ -39,13 +49,13 @@ public class JpaPagingItemReaderTestConfig {
 
     @Bean
     public Step jpaPagingItemReaderTestStep(
-            JpaPagingItemReader<Post> jpaPagingItemReader,
+            JpaKeysetItemReader<Post> jpaKeysetItemReader,
             PostBlockProcessor postBlockProcessor,
             ItemWriter<BlockedPost> jpaPagingItemReaderTestWriter
     ) {
         return new StepBuilder("jpaPagingItemReaderTestStep", jobRepository)
                 .<Post, BlockedPost>chunk(5, transactionManager)
-                .reader(jpaPagingItemReader)
+                .reader(jpaKeysetItemReader)
                 .processor(postBlockProcessor)
                 .writer(jpaPagingItemReaderTestWriter)
                 .build();
@@ -109,6 +119,38 @@ public class JpaPagingItemReaderTestConfig {
                 .build();
     }
 
+    /**
+     * JpaKeysetItemReader - OFFSET 대신 마지막 id 기준 조회 (Step에서 사용)
+     *
+     * 쿼리 형식
+     * SELECT *
+     * FROM posts
+     * WHERE id > :lastId
+     * ORDER BY id
+     * LIMIT 5
+     *
+     * DISTINCT + JOIN 대신 EXISTS -> 게시글 중복 제거를 위한 정렬 불필요, PK 인덱스 순서로 조회
+     */
+    @Bean
+    @StepScope
+    public JpaKeysetItemReader<Post> jpaKeysetItemReader(
+            @Value("#{jobParameters['startDateTime']}") LocalDateTime startDateTime,
+            @Value("#{jobParameters['endDateTime']}") LocalDateTime endDateTime
+    ) {
+        return new JpaKeysetItemReader<>(
+                "jpaKeysetItemReader",
+                entityManagerFactory,
+                KEYSET_QUERY,
+                Post.class,
+                Map.of(
+                        "startDateTime", startDateTime,
+                        "endDateTime", endDateTime
+                ),
+                Post::getId,
+                5
+        );
+    }
+
     @Bean
     public ItemWriter<BlockedPost> jpaPagingItemReaderTestWriter() {
         return items -> items.forEach(blockedPost -> {
@@ -0,0 +1,23 @@
+package com.example.killBatch.jpaBatch;
+
+/**
+ * 게시글 + 신고 유형 + 신고자 레벨 단위 신고 집계 - 불변 DTO (엔티티 X)
+ *
+ * JPQL 생성자 표현식(SELECT new ...)으로 생성
+ * -> 영속성 컨텍스트에 올라가지 않음 (dirty checking, 1차 캐시 대상 X)
+ *
+ * 집계 함수 반환 타입 (Hibernate 6)
+ * COUNT -> Long / SUM(실수) -> Double / int 필드 -> Integer
+ *
+ * decayedCount - SUM(0.5 ^ (기준 시각 - 신고 시각) / halfLife) -> BlockScoreEngine.scoreGroups() 입력
+ */
+public record PostReportGroup(
+        Long postId,
+        String title,
+        String writer,
+        String reportType,
+        Integer reporterLevel,
+        Long reportCount,
+        Double decayedCount
+) {
+}
@@ -0,0 +1,21 @@
+package com.example.killBatch.jpaBatch;
+
+import java.util.List;
+
+/**
+ * 게시글별 신고 집계 결과 - 불변 DTO (엔티티 X)
+ *
+ * PostReportGroup(게시글, 신고 유형, 신고자 레벨 단위 집계) 여러 행을 게시글 단위로 묶은 것
+ * -> PostReportSummaryReader가 생성
+ *
+ * reportCount - 기간 내 전체 신고 수
+ * groups - (reportType, reporterLevel)별 신고 수 / 감쇠 적용 건수
+ */
+public record PostReportSummary(
+        Long postId,
+        String title,
+        String writer,
+        long reportCount,
+        List<PostReportGroup> groups
+) {
+}
@@ -0,0 +1,67 @@
+package com.example.killBatch.jpaBatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.support.SingleItemPeekableItemReader;
+
+/**
+ * PostReportGroup 행 -> 게시글 단위 PostReportSummary로 묶는 Reader
+ *
+ * 동작
+ * 1. 위임 Reader는 postId 순으로 정렬된 PostReportGroup을 반환 (ORDER BY p.id 필수)
+ * 2. peek()으로 다음 행의 postId를 확인 -> 같은 게시글이면 계속 묶음
+ * 3. postId가 바뀌거나 입력이 끝나면 PostReportSummary 1건 반환
+ *
+ * 재시작 (ItemStream)
+ * - SingleItemPeekableItemReader는 peek() 직전 상태를 기록해 둔다
+ *      -> 커밋 시점에 peek으로 먼저 읽은 행이 있어도 그 행부터 다시 읽음
+ * - open/update/close는 SingleItemPeekableItemReader로 위임 (위임 Reader를 Step에 직접 등록하지 않음)
+ */
+public class PostReportSummaryReader implements ItemStreamReader<PostReportSummary> {
+
+    private final SingleItemPeekableItemReader<PostReportGroup> delegate;
+
+    public PostReportSummaryReader(ItemStreamReader<PostReportGroup> groupReader) {
+        this.delegate = new SingleItemPeekableItemReader<>();
+        this.delegate.setDelegate(groupReader);
+    }
+
+    @Override
+    public PostReportSummary read() throws Exception {
+        PostReportGroup first = delegate.read();
+        if (first == null) {
+            return null;
+        }
+
+        List<PostReportGroup> groups = new ArrayList<>();
+        groups.add(first);
+        long reportCount = first.reportCount();
+
+        PostReportGroup next;
+        while ((next = delegate.peek()) != null && Objects.equals(next.postId(), first.postId())) {
+            groups.add(delegate.read());
+            reportCount += next.reportCount();
+        }
+
+        return new PostReportSummary(first.postId(), first.title(), first.writer(), reportCount, groups);
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        delegate.open(executionContext);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        delegate.update(executionContext);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        delegate.close();
+    }
+}
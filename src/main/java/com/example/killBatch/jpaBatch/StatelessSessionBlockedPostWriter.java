@@ -0,0 +1,108 @@
+package com.example.killBatch.jpaBatch;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+/**
+ * StatelessSession 기반 BlockedPost 일괄 INSERT Writer - JpaItemWriter(usePersist) 대체
+ *
+ * JpaItemWriter 한계
+ * - persist -> 영속성 컨텍스트에 등록 (1차 캐시, 스냅샷 보관) 후 flush
+ * - 청크마다 dirty checking 대상 증가, JDBC 배치 여부는 flush 시점 설정에 의존
+ *
+ * 동작
+ * 1. 청크 트랜잭션 커넥션(DataSourceUtils)으로 StatelessSession 생성
+ *      -> 영속성 컨텍스트 없음, 청크 사이에 엔티티를 보관하지 않음
+ * 2. 중복 post_id 제거
+ *      - 청크 내부 중복 -> 먼저 나온 항목만 사용
+ *      - 이미 저장된 post_id (재실행) -> IN 조회 후 제외
+ * 3. insertMultiple + setJdbcBatchSize -> 청크 전체를 JDBC 배치로 INSERT
+ *
+ * 트랜잭션
+ * - 세션은 청크 트랜잭션 커넥션을 빌려 쓰기만 함 -> 커밋/롤백은 청크 트랜잭션이 결정
+ *
+ * 주의사항
+ * - 같은 post_id를 동시에 쓰는 Job이 있으면 중복 조회 후 INSERT 사이에 PK 충돌 가능
+ */
+@Slf4j
+public class StatelessSessionBlockedPostWriter implements ItemWriter<BlockedPost> {
+
+    private static final String EXISTING_IDS_SQL =
+            "SELECT post_id FROM blocked_posts WHERE post_id IN (:postIds)";
+
+    private final SessionFactory sessionFactory;
+    private final DataSource dataSource;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public StatelessSessionBlockedPostWriter(EntityManagerFactory entityManagerFactory,
+            DataSource dataSource, int batchSize) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void write(Chunk<? extends BlockedPost> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        List<BlockedPost> inserts = filterDuplicates(chunk.getItems());
+        if (inserts.isEmpty()) {
+            return;
+        }
+
+        // 청크 트랜잭션에 바인딩된 커넥션 (JpaTransactionManager가 DataSource에 노출)
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (StatelessSession session = sessionFactory.withStatelessOptions()
+                .connection(connection)
+                .openStatelessSession()) {
+            session.setJdbcBatchSize(batchSize);
+            session.insertMultiple(inserts);
+            // 남은 배치를 세션 종료 전에 실행
+            ((SharedSessionContractImplementor) session).getJdbcCoordinator().executeBatch();
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+
+        log.debug("blocked_posts INSERT {}건 (중복 제외 {}건)", inserts.size(), chunk.size() - inserts.size());
+    }
+
+    private List<BlockedPost> filterDuplicates(List<? extends BlockedPost> items) {
+        Map<Long, BlockedPost> unique = new LinkedHashMap<>();
+        for (BlockedPost item : items) {
+            unique.putIfAbsent(item.getPostId(), item);
+        }
+
+        Set<Long> existing = new HashSet<>(jdbcTemplate.queryForList(
+                EXISTING_IDS_SQL, Map.of("postIds", unique.keySet()), Long.class));
+        if (!existing.isEmpty()) {
+            log.info("이미 차단된 게시글 {}건 제외: {}", existing.size(), existing);
+        }
+
+        List<BlockedPost> inserts = new ArrayList<>(unique.size());
+        for (BlockedPost item : unique.values()) {
+            if (!existing.contains(item.getPostId())) {
+                inserts.add(item);
+            }
+        }
+        return inserts;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.killBatch.launch;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Job 실행 요청 API
+ *
+ * POST /jobs/{jobName}/launches?priority=10&uniqueInstance=true
+ *      body - Job 파라미터 (DefaultJobParametersConverter 형식)
+ *      ex) {"filePath": "/tmp/out", "endDateTime": "2024-01-01T00:00:00,java.time.LocalDateTime"}
+ *      -> 202 + 접수증, 대기열 초과 429, 등록되지 않은 Job 404, 종료 중 503, 허용 목록 밖의 Job / 파라미터 403
+ * GET /jobs/launches/{ticketId} - 접수증 조회 (QUEUED -> LAUNCHED -> COMPLETED / FAILED)
+ * GET /jobs/launches/metrics - 누적 지표
+ */
+@RestController
+@RequestMapping("/jobs")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "kill-batch.launcher.service.enabled", havingValue = "true")
+public class JobLaunchController {
+
+    private final JobLaunchService jobLaunchService;
+
+    @PostMapping("/{jobName}/launches")
+    public ResponseEntity<LaunchTicket> launch(
+            @PathVariable String jobName,
+            @RequestParam(defaultValue = "0") int priority,
+            @RequestParam(defaultValue = "true") boolean uniqueInstance,
+            @RequestBody(required = false) Map<String, String> parameters
+    ) {
+        LaunchTicket ticket = jobLaunchService.submit(new LaunchRequest(
+                jobName,
+                parameters == null ? Map.of() : parameters,
+                priority,
+                uniqueInstance));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ticket);
+    }
+
+    @GetMapping("/launches/{ticketId}")
+    public ResponseEntity<LaunchTicket> ticket(@PathVariable long ticketId) {
+        return ResponseEntity.of(jobLaunchService.find(ticketId));
+    }
+
+    @GetMapping("/launches/metrics")
+    public LaunchMetrics metrics() {
+        return jobLaunchService.metrics();
+    }
+
+    @ExceptionHandler(LaunchRejectedException.class)
+    public ResponseEntity<Map<String, String>> rejected(LaunchRejectedException e) {
+        HttpStatus status = switch (e.getReason()) {
+            case QUEUE_FULL -> HttpStatus.TOO_MANY_REQUESTS;
+            case UNKNOWN_JOB -> HttpStatus.NOT_FOUND;
+            case SHUTTING_DOWN -> HttpStatus.SERVICE_UNAVAILABLE;
+            case NOT_ALLOWED -> HttpStatus.FORBIDDEN;
+        };
+        return ResponseEntity.status(status)
+                .body(Map.of("reason", e.getReason().name(), "message", e.getMessage()));
+    }
+}
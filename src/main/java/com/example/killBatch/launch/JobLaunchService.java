@@ -0,0 +1,467 @@
+package com.example.killBatch.launch;
+
+import com.example.killBatch.launch.LaunchRejectedException.Reason;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.converter.DefaultJobParametersConverter;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * 상주형 Job 실행 서비스 - 가상 스레드 + 수락 제어(admission control)
+ *
+ * 기존 동작 (KillBatchApplication.main)
+ * - 기본 JobLauncher(SyncTaskExecutor)로 Job 하나를 동기 실행 후 프로세스 종료
+ * - 여러 Job을 동시에 받으려면 요청마다 스레드를 붙잡거나 프로세스를 새로 띄워야 함
+ *
+ * 동작
+ * 1. submit() - 허용 목록(allowedJobs, allowedParameters)과 등록된 Job인지 확인 후 대기열에 등록
+ *      -> 대기열이 가득 차면 즉시 거절, 거절 사유별 카운트
+ * 2. 대기열 - 우선순위 높은 순, 같으면 먼저 들어온 순 (TreeSet + 순번)
+ * 3. dispatcher 스레드 - 대기열을 앞에서부터 훑어 Job 이름별 Semaphore를 획득할 수 있는 첫 요청을 꺼냄
+ *      -> 동시 실행 한도에 걸린 Job이 다른 Job의 실행을 막지 않음 (head-of-line blocking X)
+ * 4. TaskExecutorJobLauncher(가상 스레드) - JobExecution 생성 후 즉시 반환, Job은 가상 스레드에서 실행
+ * 5. Job 종료 시 - Semaphore 반납 + dispatcher 깨움
+ *
+ * Job 종료 감지
+ * - TaskExecutorJobLauncher.run()은 호출한 스레드(dispatcher)에서 taskExecutor.execute()를 호출한다
+ * - run() 호출 동안 LAUNCHING(ThreadLocal)에 실행 정보를 걸어두고,
+ *   execute()에서 꺼내 Runnable 종료 시점에 finish()가 호출되도록 감싼다
+ *
+ * 종료 (destroy)
+ * 1. 새 요청 거절 + dispatcher 중지 + 대기열 폐기
+ *      -> dispatcher는 interrupt 대신 accepting 플래그 + signal로 중지 (JDBC 작업 중 커넥션이 닫히지 않도록)
+ * 2. 실행 중인 Job을 STOPPING, StepExecution에 terminateOnly 설정 (JobOperator.stop과 같은 효과)
+ *      -> 청크 / Tasklet 반복 경계에서 Step이 STOPPED로 종료 -> 이후 같은 JobInstance로 재시작 가능
+ * 3. 실행 중인 Job이 모두 끝날 때까지 shutdownTimeout 만큼 대기
+ *      -> 시간 안에 끝나지 않은 Job은 메타데이터에 STARTED로 남는다 (재시작 전 수동 정리 필요)
+ *
+ * 주의사항
+ * - 가상 스레드는 개수 제한이 없으므로 실제 동시 실행 수는 Job별 한도 + 커넥션 풀 크기로 제한된다
+ *      -> Job별 한도 합계가 커넥션 풀 크기를 넘지 않도록 설정
+ * - 접수증은 종료 후 retainedTickets 개까지만 보관 (상주 프로세스 메모리 증가 방지)
+ */
+@Slf4j
+public class JobLaunchService implements InitializingBean, DisposableBean {
+
+    private static final String TICKET_PARAMETER = "launch.ticket";
+    private static final ThreadLocal<Launch> LAUNCHING = new ThreadLocal<>();
+
+    private static final Comparator<Pending> PRIORITY_ORDER = Comparator
+            .comparingInt((Pending pending) -> pending.request().priority()).reversed()
+            .thenComparingLong(Pending::ticketId);
+
+    private final JobRegistry jobRegistry;
+    private final JobRepository jobRepository;
+    private final int queueCapacity;
+    private final int defaultConcurrencyPerJob;
+    private final Map<String, Integer> concurrencyPerJob;
+    private final int retainedTickets;
+    private final Set<String> allowedJobs;
+    private final Set<String> allowedParameters;
+    private final Duration shutdownTimeout;
+
+    private final DefaultJobParametersConverter parametersConverter = new DefaultJobParametersConverter();
+    private final VirtualThreadTaskExecutor virtualThreads = new VirtualThreadTaskExecutor("job-launch-");
+    private final TreeSet<Pending> queue = new TreeSet<>(PRIORITY_ORDER);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition dispatchable = lock.newCondition();
+    private final Condition idle = lock.newCondition();
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+    private final Map<Long, LaunchTicket> tickets = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Long> finishedTickets = new ConcurrentLinkedQueue<>();
+    private final AtomicLong ticketSequence = new AtomicLong();
+    private final AtomicInteger finishedCount = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final Set<JobExecution> runningExecutions = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder launched = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final Map<Reason, LongAdder> rejected = new ConcurrentHashMap<>();
+
+    private TaskExecutorJobLauncher jobLauncher;
+    private Thread dispatcher;
+    private volatile boolean accepting;
+
+    /**
+     * @param allowedJobs       실행을 허용할 Job 이름 (비어 있으면 모든 요청 거절)
+     * @param allowedParameters 요청에 포함할 수 있는 Job 파라미터 이름
+     */
+    public JobLaunchService(JobRegistry jobRegistry, JobRepository jobRepository, int queueCapacity,
+            int defaultConcurrencyPerJob, Map<String, Integer> concurrencyPerJob, int retainedTickets,
+            Set<String> allowedJobs, Set<String> allowedParameters, Duration shutdownTimeout) {
+        this.jobRegistry = jobRegistry;
+        this.jobRepository = jobRepository;
+        this.queueCapacity = queueCapacity;
+        this.defaultConcurrencyPerJob = defaultConcurrencyPerJob;
+        this.concurrencyPerJob = Map.copyOf(concurrencyPerJob);
+        this.retainedTickets = retainedTickets;
+        this.allowedJobs = Set.copyOf(allowedJobs);
+        this.allowedParameters = Set.copyOf(allowedParameters);
+        this.shutdownTimeout = shutdownTimeout;
+        for (Reason reason : Reason.values()) {
+            rejected.put(reason, new LongAdder());
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        jobLauncher = new TaskExecutorJobLauncher();
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.setTaskExecutor(completionTrackingExecutor());
+        jobLauncher.afterPropertiesSet();
+
+        accepting = true;
+        dispatcher = Thread.ofVirtual().name("job-launch-dispatcher").start(this::dispatch);
+        log.info("JobLaunchService 시작 - queueCapacity: {}, defaultConcurrencyPerJob: {}, concurrencyPerJob: {}, "
+                        + "allowedJobs: {}, allowedParameters: {}",
+                queueCapacity, defaultConcurrencyPerJob, concurrencyPerJob, allowedJobs, allowedParameters);
+    }
+
+    /**
+     * 대기열 등록 - 허용되지 않은 Job / 파라미터, 등록되지 않은 Job, 대기열 초과 시 LaunchRejectedException
+     */
+    public LaunchTicket submit(LaunchRequest request) {
+        if (!accepting) {
+            throw reject(Reason.SHUTTING_DOWN, "JobLaunchService 종료 중");
+        }
+        if (!allowedJobs.contains(request.jobName())) {
+            throw reject(Reason.NOT_ALLOWED, "허용되지 않은 Job: " + request.jobName());
+        }
+        List<String> disallowed = request.parameters() == null ? List.of() : request.parameters().keySet().stream()
+                .filter(name -> !allowedParameters.contains(name))
+                .sorted()
+                .toList();
+        if (!disallowed.isEmpty()) {
+            throw reject(Reason.NOT_ALLOWED, "허용되지 않은 Job 파라미터: " + disallowed);
+        }
+        if (!jobRegistry.getJobNames().contains(request.jobName())) {
+            throw reject(Reason.UNKNOWN_JOB, "등록되지 않은 Job: " + request.jobName());
+        }
+
+        lock.lock();
+        try {
+            if (queue.size() >= queueCapacity) {
+                throw reject(Reason.QUEUE_FULL, "대기열 초과 (capacity: " + queueCapacity + ")");
+            }
+            long ticketId = ticketSequence.incrementAndGet();
+            LaunchTicket ticket = new LaunchTicket(ticketId, request.jobName(), request.priority(),
+                    LaunchTicket.Status.QUEUED, null, null, LocalDateTime.now(), LocalDateTime.now());
+            tickets.put(ticketId, ticket);
+            queue.add(new Pending(ticketId, request));
+            submitted.increment();
+            dispatchable.signal();
+            return ticket;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Optional<LaunchTicket> find(long ticketId) {
+        return Optional.ofNullable(tickets.get(ticketId));
+    }
+
+    public LaunchMetrics metrics() {
+        int queued;
+        lock.lock();
+        try {
+            queued = queue.size();
+        } finally {
+            lock.unlock();
+        }
+        return new LaunchMetrics(
+                submitted.sum(),
+                launched.sum(),
+                completed.sum(),
+                failed.sum(),
+                rejected.get(Reason.QUEUE_FULL).sum(),
+                rejected.get(Reason.UNKNOWN_JOB).sum(),
+                rejected.get(Reason.SHUTTING_DOWN).sum(),
+                rejected.get(Reason.NOT_ALLOWED).sum(),
+                queued,
+                queueCapacity,
+                running.get());
+    }
+
+    /**
+     * accepting이 false가 되면 종료 (destroy에서 signalAll로 깨움)
+     * interrupt를 쓰지 않는 이유 - launch() 안의 JDBC 작업 중 인터럽트되면 가상 스레드의 소켓이 닫힌다
+     */
+    private void dispatch() {
+        while (true) {
+            Pending next = null;
+            lock.lock();
+            try {
+                while (accepting && (next = pollLaunchable()) == null) {
+                    dispatchable.awaitUninterruptibly();
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (next == null) {
+                return;
+            }
+            launch(next);
+        }
+    }
+
+    /**
+     * 우선순위 순으로 훑어 Semaphore를 획득한 첫 요청을 대기열에서 제거 (lock 보유 상태에서 호출)
+     */
+    private Pending pollLaunchable() {
+        Iterator<Pending> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            Pending pending = iterator.next();
+            if (permitsFor(pending.request().jobName()).tryAcquire()) {
+                iterator.remove();
+                return pending;
+            }
+        }
+        return null;
+    }
+
+    private void launch(Pending pending) {
+        LaunchRequest request = pending.request();
+        Launch launch = new Launch(pending);
+        LAUNCHING.set(launch);
+        try {
+            Job job = jobRegistry.getJob(request.jobName());
+            JobExecution execution = jobLauncher.run(job, jobParameters(pending));
+            launched.increment();
+            // complete() 이전에 등록 -> Job 실행 스레드의 제거(execution 대기 후)보다 항상 먼저
+            runningExecutions.add(execution);
+            launch.execution().complete(execution);
+            tickets.computeIfPresent(pending.ticketId(),
+                    (id, ticket) -> ticket.status() == LaunchTicket.Status.QUEUED
+                            ? ticket.with(LaunchTicket.Status.LAUNCHED, execution.getId(), null)
+                            : ticket);
+            log.info("Job 실행 - ticket: {}, job: {}, priority: {}, jobExecutionId: {}",
+                    pending.ticketId(), request.jobName(), request.priority(), execution.getId());
+        } catch (JobExecutionException | RuntimeException e) {
+            launch.execution().completeExceptionally(e);
+            // taskExecutor에 넘어가기 전에 실패 (재시작 불가, 이미 실행 중 등) -> 여기서 직접 반납
+            if (!launch.submitted()) {
+                log.warn("Job 실행 실패 - ticket: {}, job: {}, {}", pending.ticketId(), request.jobName(), e.getMessage());
+                finish(pending, LaunchTicket.Status.FAILED, null, e.getMessage());
+            }
+        } finally {
+            LAUNCHING.remove();
+        }
+    }
+
+    private JobParameters jobParameters(Pending pending) {
+        Properties properties = new Properties();
+        if (pending.request().parameters() != null) {
+            properties.putAll(pending.request().parameters());
+        }
+        JobParametersBuilder builder = new JobParametersBuilder(parametersConverter.getJobParameters(properties));
+        if (pending.request().uniqueInstance()) {
+            builder.addLong(TICKET_PARAMETER, pending.ticketId());
+        }
+        return builder.toJobParameters();
+    }
+
+    /**
+     * TaskExecutorJobLauncher에 넘기는 TaskExecutor
+     * dispatcher 스레드의 LAUNCHING 값을 읽어 Job 종료 시 finish() 호출
+     *
+     * run()이 JobExecution을 반환하기 전에 Job이 끝날 수 있으므로
+     * 종료 처리는 dispatcher가 채워주는 execution(CompletableFuture)을 기다린 뒤 수행
+     */
+    private TaskExecutor completionTrackingExecutor() {
+        return task -> {
+            Launch launch = LAUNCHING.get();
+            launch.markSubmitted();
+            running.incrementAndGet();
+            virtualThreads.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    running.decrementAndGet();
+                    JobExecution execution = launch.execution().exceptionally(e -> null).join();
+                    if (execution != null) {
+                        runningExecutions.remove(execution);
+                    }
+                    if (execution == null) {
+                        finish(launch.pending(), LaunchTicket.Status.FAILED, null, "JobExecution 반환 실패");
+                    } else if (execution.getStatus() == BatchStatus.COMPLETED) {
+                        finish(launch.pending(), LaunchTicket.Status.COMPLETED, execution.getId(), null);
+                    } else {
+                        finish(launch.pending(), LaunchTicket.Status.FAILED, execution.getId(),
+                                execution.getExitStatus().getExitCode());
+                    }
+                }
+            });
+        };
+    }
+
+    /**
+     * 접수증 상태 갱신 + Semaphore 반납 + dispatcher 깨움
+     */
+    private void finish(Pending pending, LaunchTicket.Status status, Long jobExecutionId, String message) {
+        if (status == LaunchTicket.Status.COMPLETED) {
+            completed.increment();
+        } else {
+            failed.increment();
+        }
+        tickets.computeIfPresent(pending.ticketId(), (id, ticket) -> ticket.with(status,
+                jobExecutionId != null ? jobExecutionId : ticket.jobExecutionId(), message));
+        retain(pending.ticketId());
+
+        permitsFor(pending.request().jobName()).release();
+        lock.lock();
+        try {
+            dispatchable.signal();
+            idle.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 종료된 접수증은 오래된 것부터 retainedTickets 개를 넘으면 제거
+     */
+    private void retain(long ticketId) {
+        finishedTickets.add(ticketId);
+        if (finishedCount.incrementAndGet() > retainedTickets) {
+            Long oldest = finishedTickets.poll();
+            if (oldest != null) {
+                finishedCount.decrementAndGet();
+                tickets.remove(oldest);
+            }
+        }
+    }
+
+    private Semaphore permitsFor(String jobName) {
+        return permits.computeIfAbsent(jobName,
+                name -> new Semaphore(concurrencyPerJob.getOrDefault(name, defaultConcurrencyPerJob)));
+    }
+
+    private LaunchRejectedException reject(Reason reason, String message) {
+        rejected.get(reason).increment();
+        return new LaunchRejectedException(reason, message);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        lock.lock();
+        try {
+            accepting = false;
+            dispatchable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (dispatcher != null) {
+            // 실행 중인 launch()가 있으면 끝난 뒤 종료
+            dispatcher.join();
+        }
+        lock.lock();
+        try {
+            if (!queue.isEmpty()) {
+                log.warn("JobLaunchService 종료 - 실행되지 않은 요청 {}건 폐기", queue.size());
+            }
+            queue.clear();
+        } finally {
+            lock.unlock();
+        }
+        stopRunningJobs();
+    }
+
+    /**
+     * 실행 중인 Job에 중지 요청 후 shutdownTimeout 동안 종료 대기
+     * 메모리의 StepExecution에 직접 terminateOnly 설정 -> 다음 청크 경계에서 바로 감지 (DB 상태 동기화 불필요)
+     */
+    private void stopRunningJobs() throws InterruptedException {
+        if (running.get() == 0) {
+            return;
+        }
+        log.warn("JobLaunchService 종료 - 실행 중인 Job {}개 중지 요청", running.get());
+        for (JobExecution execution : runningExecutions) {
+            // STOPPING -> 아직 시작하지 않은 다음 Step 실행 X, terminateOnly -> 실행 중인 Step 중지
+            execution.setStatus(BatchStatus.STOPPING);
+            execution.getStepExecutions().forEach(StepExecution::setTerminateOnly);
+            log.warn("Job 중지 요청 - job: {}, jobExecutionId: {}",
+                    execution.getJobInstance().getJobName(), execution.getId());
+        }
+
+        long remainingNanos = shutdownTimeout.toNanos();
+        lock.lock();
+        try {
+            while (running.get() > 0 && remainingNanos > 0) {
+                remainingNanos = idle.awaitNanos(remainingNanos);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (running.get() > 0) {
+            log.error("JobLaunchService 종료 - {} 안에 끝나지 않은 Job {}개 (메타데이터 STARTED 상태로 남음): {}",
+                    shutdownTimeout, running.get(), runningExecutions.stream().map(JobExecution::getId).toList());
+        }
+    }
+
+    private record Pending(long ticketId, LaunchRequest request) {
+    }
+
+    /**
+     * run() 호출 1회의 상태 - dispatcher 스레드와 Job 실행 가상 스레드가 공유
+     */
+    private static final class Launch {
+
+        private final Pending pending;
+        private final CompletableFuture<JobExecution> execution = new CompletableFuture<>();
+        private boolean submitted;
+
+        private Launch(Pending pending) {
+            this.pending = pending;
+        }
+
+        Pending pending() {
+            return pending;
+        }
+
+        CompletableFuture<JobExecution> execution() {
+            return execution;
+        }
+
+        // dispatcher 스레드에서만 읽고 쓴다
+        boolean submitted() {
+            return submitted;
+        }
+
+        void markSubmitted() {
+            submitted = true;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.killBatch.launch;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 상주형 Job 실행 서비스 설정 - kill-batch.launcher.service.enabled=true 일 때만 등록
+ *
+ * kill-batch.launcher.service.queue-capacity - 대기열 최대 크기 (초과 시 429)
+ * kill-batch.launcher.service.default-concurrency-per-job - Job 이름별 기본 동시 실행 수
+ * kill-batch.launcher.service.concurrency-per-job - Job별 동시 실행 수 (ex. victimJob:4,skipItemWriterTestJob:1)
+ * kill-batch.launcher.service.retained-tickets - 종료된 접수증 보관 개수
+ * kill-batch.launcher.service.allowed-jobs - 실행을 허용할 Job 이름 (ex. victimJob,zombieCleanupJob, 기본값 없음 -> 모두 거절)
+ * kill-batch.launcher.service.allowed-parameters - 요청 body에 허용할 Job 파라미터 이름 (ex. endDateTime, 기본값 없음)
+ * kill-batch.launcher.service.shutdown-timeout-seconds - 종료 시 실행 중인 Job 중지 대기 시간
+ *
+ * 활성화 시 KillBatchApplication.main은 Job을 직접 실행하지 않고 웹 서버로 상주
+ *
+ * 보안 주의사항 - /jobs API는 인증이 없다
+ * - 누구나 요청할 수 있으면 임의 Job 실행, filePath 같은 파라미터로 임의 경로 쓰기가 가능
+ *      -> allowed-jobs, allowed-parameters 에 필요한 것만 등록 (목록 밖 요청은 403)
+ *      -> 경로 파라미터(filePath, inputFile 등)는 외부에 열지 말고 Job 설정의 기본값 사용
+ * - server.address=127.0.0.1 로 로컬에만 바인딩하거나, 인증이 있는 게이트웨이 뒤에서만 노출
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "kill-batch.launcher.service.enabled", havingValue = "true")
+public class JobLaunchServiceConfig {
+
+    private final JobRegistry jobRegistry;
+    private final JobRepository jobRepository;
+
+    @Value("${kill-batch.launcher.service.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${kill-batch.launcher.service.default-concurrency-per-job:1}")
+    private int defaultConcurrencyPerJob;
+
+    @Value("${kill-batch.launcher.service.concurrency-per-job:}")
+    private String concurrencyPerJob;
+
+    @Value("${kill-batch.launcher.service.retained-tickets:1000}")
+    private int retainedTickets;
+
+    @Value("${kill-batch.launcher.service.allowed-jobs:}")
+    private String allowedJobs;
+
+    @Value("${kill-batch.launcher.service.allowed-parameters:}")
+    private String allowedParameters;
+
+    @Value("${kill-batch.launcher.service.shutdown-timeout-seconds:30}")
+    private long shutdownTimeoutSeconds;
+
+    @Bean
+    public JobLaunchService jobLaunchService() {
+        return new JobLaunchService(jobRegistry, jobRepository, queueCapacity,
+                defaultConcurrencyPerJob, parseConcurrencyPerJob(), retainedTickets,
+                parseNames(allowedJobs), parseNames(allowedParameters), Duration.ofSeconds(shutdownTimeoutSeconds));
+    }
+
+    private static Set<String> parseNames(String names) {
+        return Arrays.stream(names.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toSet());
+    }
+
+    private Map<String, Integer> parseConcurrencyPerJob() {
+        Map<String, Integer> limits = new HashMap<>();
+        for (String entry : concurrencyPerJob.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] pair = entry.split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("kill-batch.launcher.service.concurrency-per-job 형식 오류: " + entry);
+            }
+            limits.put(pair[0].trim(), Integer.parseInt(pair[1].trim()));
+        }
+        return limits;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.killBatch.launch;
+
+/**
+ * JobLaunchService 누적 지표
+ *
+ * rejected* - 거절 사유별 누적 건수 (대기열 초과 / 등록되지 않은 Job / 종료 중 / 허용 목록 밖)
+ * queued, running - 조회 시점의 대기 / 실행 중 Job 수
+ */
+public record LaunchMetrics(
+        long submitted,
+        long launched,
+        long completed,
+        long failed,
+        long rejectedQueueFull,
+        long rejectedUnknownJob,
+        long rejectedShuttingDown,
+        long rejectedNotAllowed,
+        int queued,
+        int queueCapacity,
+        int running
+) {
+}
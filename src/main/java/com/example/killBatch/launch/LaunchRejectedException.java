@@ -0,0 +1,22 @@
+package com.example.killBatch.launch;
+
+/**
+ * 실행 요청 거절 - 대기열 초과, 등록되지 않은 Job, 서비스 종료 중, 허용 목록에 없는 Job / 파라미터
+ */
+public class LaunchRejectedException extends RuntimeException {
+
+    public enum Reason {
+        QUEUE_FULL, UNKNOWN_JOB, SHUTTING_DOWN, NOT_ALLOWED
+    }
+
+    private final Reason reason;
+
+    public LaunchRejectedException(Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.killBatch.launch;
+
+import java.util.Map;
+
+/**
+ * Job 실행 요청
+ *
+ * parameters - DefaultJobParametersConverter 형식 (ex. "endDateTime" -> "2024-01-01T00:00:00,java.time.LocalDateTime")
+ * priority - 클수록 먼저 실행 (같으면 먼저 들어온 요청부터)
+ * uniqueInstance - true면 요청마다 새 JobInstance (launch.ticket 파라미터 추가), false면 실패한 JobInstance 재시작 가능
+ */
+public record LaunchRequest(
+        String jobName,
+        Map<String, String> parameters,
+        int priority,
+        boolean uniqueInstance
+) {
+}
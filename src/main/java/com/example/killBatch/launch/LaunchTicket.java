@@ -0,0 +1,29 @@
+package com.example.killBatch.launch;
+
+import java.time.LocalDateTime;
+
+/**
+ * 실행 요청 접수증 - 대기열 등록부터 Job 종료까지의 상태
+ *
+ * QUEUED -> LAUNCHED (JobExecution 생성) -> COMPLETED / FAILED
+ * 실행 중 예외(JobInstanceAlreadyCompleteException 등)로 시작하지 못하면 FAILED
+ */
+public record LaunchTicket(
+        long id,
+        String jobName,
+        int priority,
+        Status status,
+        Long jobExecutionId,
+        String message,
+        LocalDateTime submittedAt,
+        LocalDateTime updatedAt
+) {
+
+    public enum Status {
+        QUEUED, LAUNCHED, COMPLETED, FAILED
+    }
+
+    LaunchTicket with(Status status, Long jobExecutionId, String message) {
+        return new LaunchTicket(id, jobName, priority, status, jobExecutionId, message, submittedAt, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.killBatch.partition;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Partitioner - id 범위 분할
+ *
+ * 1. 조건절을 만족하는 데이터의 MIN(id), MAX(id) 조회
+ * 2. [MIN, MAX] 구간을 gridSize 개의 연속된 범위로 분할
+ * 3. 각 범위를 파티션별 ExecutionContext에 기록 (minId, maxId)
+ *      -> 워커 Step의 @StepScope Reader가 #{stepExecutionContext['minId']}로 조회
+ *
+ * 재시작
+ * - 파티션마다 독립적인 StepExecution, ExecutionContext를 가진다
+ * - 재시작 시 SimpleStepExecutionSplitter가 이전 gridSize와 파티션 이름을 그대로 사용
+ *      -> 실패한 파티션만 이전 ExecutionContext(범위 + Reader 상태)로 재개
+ *      -> 따라서 파티션 이름은 항상 동일한 규칙(partition0000, partition0001...)으로 생성해야 한다
+ */
+@Slf4j
+public class IdRangePartitioner implements Partitioner {
+
+    public static final String MIN_ID_KEY = "minId";
+    public static final String MAX_ID_KEY = "maxId";
+    public static final String PARTITION_INDEX_KEY = "partitionIndex";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String boundsSql;
+    private final Object[] queryArguments;
+    private final Map<String, Object> sharedValues;
+
+    /**
+     * @param table          대상 테이블
+     * @param idColumn       분할 기준 컬럼 (숫자형 PK)
+     * @param whereClause    조건절 (없으면 null), ? 바인딩 사용
+     * @param queryArguments 조건절 파라미터
+     * @param sharedValues   모든 파티션 ExecutionContext에 동일하게 복사할 값 (ex. 기준 시각)
+     */
+    public IdRangePartitioner(JdbcTemplate jdbcTemplate, String table, String idColumn,
+            String whereClause, Object[] queryArguments, Map<String, Object> sharedValues) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.boundsSql = "SELECT MIN(" + idColumn + "), MAX(" + idColumn + ") FROM " + table
+                + (whereClause == null ? "" : " " + whereClause);
+        this.queryArguments = queryArguments;
+        this.sharedValues = sharedValues;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        long[] bounds = jdbcTemplate.query(boundsSql, rs -> {
+            if (!rs.next()) {
+                return null;
+            }
+            long minId = rs.getLong(1);
+            if (rs.wasNull()) {
+                return null;
+            }
+            return new long[]{minId, rs.getLong(2)};
+        }, queryArguments);
+
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        if (bounds == null) {
+            log.info("파티셔닝 대상 데이터 없음 -> 파티션 0개");
+            return partitions;
+        }
+
+        long minId = bounds[0];
+        long maxId = bounds[1];
+        long rangeSize = Math.max(1, (maxId - minId) / gridSize + 1);
+
+        for (int index = 0; index < gridSize; index++) {
+            long start = minId + index * rangeSize;
+            if (start > maxId) {
+                break;
+            }
+            long end = Math.min(start + rangeSize - 1, maxId);
+
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MIN_ID_KEY, start);
+            context.putLong(MAX_ID_KEY, end);
+            context.putInt(PARTITION_INDEX_KEY, index);
+            sharedValues.forEach(context::put);
+
+            partitions.put(partitionName(index), context);
+            log.info("파티션 생성: {} -> id {} ~ {}", partitionName(index), start, end);
+        }
+
+        return partitions;
+    }
+
+    public static String partitionName(int index) {
+        return String.format("partition%04d", index);
+    }
+}
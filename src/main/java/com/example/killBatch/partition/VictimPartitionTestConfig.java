@@ -0,0 +1,227 @@
+package com.example.killBatch.partition;
+
+import com.example.killBatch.jdbcBatch.IndexedBeanRowMapper;
+import com.example.killBatch.jdbcBatch.Victim;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Partitioning - victims 테이블 병렬 처리
+ *
+ * 기존 jdbcPagingItemReaderTestStep, jdbcCursorItemReaderTestStep
+ * -> 단일 스레드에서 victims 테이블 전체를 순차 조회 (대용량일수록 Reader가 병목)
+ *
+ * 구조
+ * 1. 매니저 Step - IdRangePartitioner로 id 범위를 gridSize 개로 분할
+ * 2. 워커 Step - 파티션마다 독립적인 StepExecution으로 실행 (TaskExecutor 스레드)
+ * 3. 워커 Reader - @StepScope, 자신의 범위(id BETWEEN :minId AND :maxId)만 조회
+ *
+ * gridSize - kill-batch.partition.grid-size (기본값 0 -> 가용 코어 수)
+ *
+ * 주의사항
+ * 커서 방식 워커는 파티션마다 커서 커넥션 + 청크 트랜잭션 커넥션을 동시에 점유한다.
+ * -> 커넥션 풀 크기는 최소 gridSize * 2 이상으로 설정
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class VictimPartitionTestConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+
+    @Value("${kill-batch.partition.grid-size:0}")
+    private int configuredGridSize;
+
+    @Bean
+    public Job jdbcPagingPartitionTestJob(Step victimPagingPartitionStep) {
+        return new JobBuilder("jdbcPagingPartitionTestJob", jobRepository)
+                .start(victimPagingPartitionStep)
+                .build();
+    }
+
+    @Bean
+    public Job jdbcCursorPartitionTestJob(Step victimCursorPartitionStep) {
+        return new JobBuilder("jdbcCursorPartitionTestJob", jobRepository)
+                .start(victimCursorPartitionStep)
+                .build();
+    }
+
+    /**
+     * 매니저 Step
+     * partitioner() -> 워커 Step 이름, Partitioner 전달
+     * 워커 StepExecution 이름 -> victimPagingWorkerStep:partition0000
+     */
+    @Bean
+    public Step victimPagingPartitionStep(
+            IdRangePartitioner victimIdRangePartitioner,
+            Step victimPagingWorkerStep,
+            TaskExecutor victimPartitionTaskExecutor
+    ) {
+        return new StepBuilder("victimPagingPartitionStep", jobRepository)
+                .partitioner("victimPagingWorkerStep", victimIdRangePartitioner)
+                .step(victimPagingWorkerStep)
+                .gridSize(gridSize())
+                .taskExecutor(victimPartitionTaskExecutor)
+                .build();
+    }
+
+    @Bean
+    public Step victimCursorPartitionStep(
+            IdRangePartitioner victimIdRangePartitioner,
+            Step victimCursorWorkerStep,
+            TaskExecutor victimPartitionTaskExecutor
+    ) {
+        return new StepBuilder("victimCursorPartitionStep", jobRepository)
+                .partitioner("victimCursorWorkerStep", victimIdRangePartitioner)
+                .step(victimCursorWorkerStep)
+                .gridSize(gridSize())
+                .taskExecutor(victimPartitionTaskExecutor)
+                .build();
+    }
+
+    @Bean
+    public Step victimPagingWorkerStep(
+            JdbcPagingItemReader<Victim> victimPartitionPagingReader,
+            ItemWriter<Victim> victimPartitionWriter
+    ) {
+        return new StepBuilder("victimPagingWorkerStep", jobRepository)
+                .<Victim, Victim>chunk(5, transactionManager)
+                .reader(victimPartitionPagingReader)
+                .writer(victimPartitionWriter)
+                .build();
+    }
+
+    @Bean
+    public Step victimCursorWorkerStep(
+            JdbcCursorItemReader<Victim> victimPartitionCursorReader,
+            ItemWriter<Victim> victimPartitionWriter
+    ) {
+        return new StepBuilder("victimCursorWorkerStep", jobRepository)
+                .<Victim, Victim>chunk(5, transactionManager)
+                .reader(victimPartitionCursorReader)
+                .writer(victimPartitionWriter)
+                .build();
+    }
+
+    /**
+     * 기준 시각(terminatedAt)은 파티셔닝 시점에 한 번만 계산
+     * -> 모든 파티션이 동일한 조건으로 조회
+     * -> 파티션 ExecutionContext에 저장되므로 재시작 시에도 동일한 기준 시각 유지
+     */
+    @Bean
+    @StepScope
+    public IdRangePartitioner victimIdRangePartitioner() {
+        LocalDateTime terminatedAt = LocalDateTime.now();
+        return new IdRangePartitioner(
+                new JdbcTemplate(dataSource),
+                "victims",
+                "id",
+                "WHERE status = ? AND terminated_at <= ?",
+                new Object[]{"TERMINATED", terminatedAt},
+                Map.of("status", "TERMINATED", "terminatedAt", terminatedAt)
+        );
+    }
+
+    @Bean
+    public TaskExecutor victimPartitionTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(gridSize());
+        executor.setMaxPoolSize(gridSize());
+        executor.setThreadNamePrefix("victim-partition-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 워커 Reader - 파티션마다 독립된 인스턴스 (@StepScope)
+     * 파티션 ExecutionContext 값 -> #{stepExecutionContext[...]}
+     *
+     * @StepScope 사용 시 ItemStream 호출을 위해 구체 클래스를 반환 타입으로 지정!
+     */
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<Victim> victimPartitionPagingReader(
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId,
+            @Value("#{stepExecutionContext['status']}") String status,
+            @Value("#{stepExecutionContext['terminatedAt']}") LocalDateTime terminatedAt
+    ) {
+        return new JdbcPagingItemReaderBuilder<Victim>()
+                .name("victimPartitionPagingReader")
+                .dataSource(dataSource)
+                .pageSize(5)
+                .selectClause("SELECT id, name, process_id, terminated_at, status")
+                .fromClause("FROM victims")
+                .whereClause("WHERE status = :status AND terminated_at <= :terminatedAt "
+                        + "AND id BETWEEN :minId AND :maxId")
+                .sortKeys(Map.of("id", Order.ASCENDING))
+                .parameterValues(Map.of(
+                        "status", status,
+                        "terminatedAt", terminatedAt,
+                        "minId", minId,
+                        "maxId", maxId
+                ))
+                .rowMapper(IndexedBeanRowMapper.of(Victim.class))
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public JdbcCursorItemReader<Victim> victimPartitionCursorReader(
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId,
+            @Value("#{stepExecutionContext['status']}") String status,
+            @Value("#{stepExecutionContext['terminatedAt']}") LocalDateTime terminatedAt
+    ) {
+        return new JdbcCursorItemReaderBuilder<Victim>()
+                .name("victimPartitionCursorReader")
+                .dataSource(dataSource)
+                .sql("SELECT * FROM victims WHERE status = ? AND terminated_at <= ? "
+                        + "AND id BETWEEN ? AND ? ORDER BY id")
+                .queryArguments(List.of(status, terminatedAt, minId, maxId))
+                .fetchSize(100)
+                .rowMapper(IndexedBeanRowMapper.of(Victim.class))
+                .build();
+    }
+
+    @Bean
+    public ItemWriter<Victim> victimPartitionWriter() {
+        return items -> {
+            for (Victim victim : items) {
+                log.info("{}", victim);
+            }
+        };
+    }
+
+    private int gridSize() {
+        return configuredGridSize > 0
+                ? configuredGridSize
+                : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.killBatch.tasklet;
+
+import java.time.Duration;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+
+/**
+ * 반복 묶음 Tasklet 데코레이터 - CONTINUABLE 반복 여러 번을 트랜잭션 하나로 실행
+ *
+ * 기존 동작 (ZombieProcessCleanupTasklet)
+ * - execute() 1회 = 트랜잭션 1개 + StepExecution / ExecutionContext 갱신 (메타데이터 UPDATE)
+ * - 수천 번 반복하는 정리 작업이면 실제 작업보다 메타데이터 갱신이 더 많음
+ *
+ * 동작
+ * - 한 번의 execute() 안에서 위임 Tasklet을 반복 호출
+ * - 아래 조건 중 하나를 만족하면 반환 -> 커밋 + 메타데이터 갱신
+ *      1. 위임 Tasklet이 FINISHED 반환 (null도 TaskletStep과 동일하게 FINISHED로 취급)
+ *      2. maxIterations 회 실행
+ *      3. maxDuration 경과
+ *      4. Step 중지 요청 (JobOperator.stop -> terminateOnly)
+ * - 반복 횟수는 StepExecutionContext의 batchedIteration.iterations 에 누적 (writeCount는 건드리지 않음)
+ *      -> 예외로 롤백된 묶음의 반복은 집계하지 않음
+ *
+ * 주의사항
+ * - 반복 중 예외가 발생하면 묶음 전체가 롤백된다 (기존에는 해당 반복 1회만 롤백)
+ * - 위임 Tasklet의 인스턴스 상태(카운터 등)는 롤백되지 않는다
+ */
+public class BatchedIterationTasklet implements Tasklet {
+
+    public static final String ITERATIONS_KEY = "batchedIteration.iterations";
+
+    private final Tasklet delegate;
+    private final int maxIterations;
+    private final long maxNanos;
+
+    public BatchedIterationTasklet(Tasklet delegate, int maxIterations, Duration maxDuration) {
+        if (maxIterations < 1) {
+            throw new IllegalArgumentException("maxIterations는 1 이상이어야 함: " + maxIterations);
+        }
+        this.delegate = delegate;
+        this.maxIterations = maxIterations;
+        this.maxNanos = maxDuration.toNanos();
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+        long startedAt = System.nanoTime();
+        int iterations = 0;
+        RepeatStatus status;
+        do {
+            status = delegate.execute(contribution, chunkContext);
+            if (status == null) {
+                status = RepeatStatus.FINISHED;
+            }
+            iterations++;
+        } while (status.isContinuable()
+                && iterations < maxIterations
+                && System.nanoTime() - startedAt < maxNanos
+                && !stepExecution.isTerminateOnly());
+
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        executionContext.putLong(ITERATIONS_KEY, executionContext.getLong(ITERATIONS_KEY, 0L) + iterations);
+        return status;
+    }
+}
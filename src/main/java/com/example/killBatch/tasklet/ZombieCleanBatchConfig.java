@@ -1,11 +1,13 @@
 package com.example.killBatch.tasklet;
 
+import java.time.Duration;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -16,6 +18,12 @@ public class ZombieCleanBatchConfig {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager platformTransactionManager;
 
+    @Value("${kill-batch.tasklet.max-iterations-per-transaction:100}")
+    private int maxIterationsPerTransaction;
+
+    @Value("${kill-batch.tasklet.max-transaction-millis:1000}")
+    private long maxTransactionMillis;
+
     public ZombieCleanBatchConfig(
             JobRepository jobRepository,
             PlatformTransactionManager platformTransactionManager
@@ -35,10 +43,17 @@ public class ZombieCleanBatchConfig {
     public Step zombieCleanStep() {
         return new StepBuilder("zombieCleanupStep", jobRepository)
                 //execute() 메서드 실행 중 발생하는 DB 작업을 하나의 트랜잭션으로 관리하기 위함
-                .tasklet(zombieProcessCleanupTasklet(), platformTransactionManager)
+                //BatchedIterationTasklet -> CONTINUABLE 반복을 최대 N회 / T ms 단위로 묶어서 한 트랜잭션에 실행
+                .tasklet(batchedZombieProcessCleanupTasklet(), platformTransactionManager)
                 .build();
     }
 
+    @Bean
+    public BatchedIterationTasklet batchedZombieProcessCleanupTasklet() {
+        return new BatchedIterationTasklet(zombieProcessCleanupTasklet(),
+                maxIterationsPerTransaction, Duration.ofMillis(maxTransactionMillis));
+    }
+
     @Bean
     public Tasklet zombieProcessCleanupTasklet() {
         return new ZombieProcessCleanupTasklet();
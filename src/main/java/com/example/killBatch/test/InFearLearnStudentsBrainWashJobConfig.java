@@ -1,7 +1,11 @@
 package com.example.killBatch.test;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.example.killBatch.chunk.AdaptiveChunkCompletionPolicy;
+import com.example.killBatch.fileBatch.JsonLinesItemWriter;
+import com.example.killBatch.jdbcBatch.IndexedBeanRowMapper;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Map;
 import javax.sql.DataSource;
 import lombok.AllArgsConstructor;
@@ -20,12 +24,9 @@ import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.database.JdbcPagingItemReader;
 import org.springframework.batch.item.database.Order;
 import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
-import org.springframework.batch.item.file.FlatFileItemWriter;
-import org.springframework.batch.item.file.builder.FlatFileItemWriterBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.io.FileSystemResource;
 import org.springframework.transaction.PlatformTransactionManager;
 
 @Slf4j
@@ -37,6 +38,9 @@ public class InFearLearnStudentsBrainWashJobConfig {
     private final DataSource dataSource;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    @Value("${kill-batch.chunk.target-transaction-millis:1000}")
+    private long targetTransactionMillis;
+
     @Bean
     public Job inFearLearnStudentsBrainWashJob() {
         return new JobBuilder("inFearLearnStudentsBrainWashJob", jobRepository)
@@ -46,14 +50,23 @@ public class InFearLearnStudentsBrainWashJobConfig {
 
     @Bean
     public Step inFearLearnStudentsBrainWashStep() {
+        AdaptiveChunkCompletionPolicy completionPolicy = inFearLearnStudentsChunkPolicy();
         return new StepBuilder("inFearLearnStudentsBrainWashStep", jobRepository)
-                .<InFearLearnStudents, BrainwashedVictim>chunk(10, transactionManager)
+                .<InFearLearnStudents, BrainwashedVictim>chunk(completionPolicy, transactionManager)
                 .reader(inFearLearnStudentsReader())
                 .processor(brainwashProcessor())
                 .writer(brainwashedVictimWriter(null))
+                .listener(completionPolicy)
+                .stream(completionPolicy)
                 .build();
     }
 
+    @Bean
+    public AdaptiveChunkCompletionPolicy inFearLearnStudentsChunkPolicy() {
+        return new AdaptiveChunkCompletionPolicy("inFearLearnStudentsBrainWashStep",
+                10, 1, 50_000, Duration.ofMillis(targetTransactionMillis));
+    }
+
     @Bean
     public JdbcPagingItemReader<InFearLearnStudents> inFearLearnStudentsReader() {
         return new JdbcPagingItemReaderBuilder<InFearLearnStudents>()
@@ -62,7 +75,7 @@ public class InFearLearnStudentsBrainWashJobConfig {
                 .selectClause("SELECT student_id, current_lecture, instructor, persuasion_method")
                 .fromClause("FROM infearlearn_students")
                 .sortKeys(Map.of("student_id", Order.ASCENDING))
-                .beanRowMapper(InFearLearnStudents.class)
+                .rowMapper(IndexedBeanRowMapper.of(InFearLearnStudents.class))
                 .pageSize(10)
                 .build();
     }
@@ -72,21 +85,18 @@ public class InFearLearnStudentsBrainWashJobConfig {
         return new BrainwashProcessor();
     }
 
+    /**
+     * JsonLinesItemWriter - 청크 단위 JsonGenerator 직렬화 (아이템별 String 생성 X)
+     * 출력 내용은 기존 FlatFileItemWriter + writeValueAsString 방식과 동일
+     */
     @Bean
     @StepScope
-    public FlatFileItemWriter<BrainwashedVictim> brainwashedVictimWriter(
+    public JsonLinesItemWriter<BrainwashedVictim> brainwashedVictimWriter(
             @Value("#{jobParameters['filePath']}") String filePath) {
-        return new FlatFileItemWriterBuilder<BrainwashedVictim>()
-                .name("brainwashedVictimWriter")
-                .resource(new FileSystemResource(filePath + "/brainwashed_victims.jsonl"))
-                .lineAggregator(item -> {
-                    try {
-                        return objectMapper.writeValueAsString(item);
-                    } catch (JsonProcessingException e) {
-                        throw new RuntimeException("Error converting brainwashed victim to JSON", e);
-                    }
-                })
-                .build();
+        return new JsonLinesItemWriter<>(
+                "brainwashedVictimWriter",
+                Path.of(filePath, "brainwashed_victims.jsonl"),
+                objectMapper);
     }
 
     @Slf4j
@@ -173,6 +183,7 @@ public class InFearLearnStudentsBrainWashJobConfig {
      * <p><em>※ 주의: 이 객체는 완전히 전향된 정신 상태를 반영하며, 복구가 불가능할 수 있다.</em></p>
      */
     @Data
+    @NoArgsConstructor
     @AllArgsConstructor
     @Builder
     public static class BrainwashedVictim {
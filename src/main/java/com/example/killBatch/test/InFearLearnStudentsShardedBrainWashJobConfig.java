@@ -0,0 +1,196 @@
+package com.example.killBatch.test;
+
+import com.example.killBatch.fileBatch.JsonLinesItemWriter;
+import com.example.killBatch.fileBatch.JsonLinesShardMergeTasklet;
+import com.example.killBatch.fileBatch.StaleShardCleanupListener;
+import com.example.killBatch.jdbcBatch.IndexedBeanRowMapper;
+import com.example.killBatch.partition.IdRangePartitioner;
+import com.example.killBatch.test.InFearLearnStudentsBrainWashJobConfig.BrainwashProcessor;
+import com.example.killBatch.test.InFearLearnStudentsBrainWashJobConfig.BrainwashedVictim;
+import com.example.killBatch.test.InFearLearnStudentsBrainWashJobConfig.InFearLearnStudents;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Path;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 세뇌 Job - 샤드 병렬 출력 모드
+ *
+ * 기존 inFearLearnStudentsBrainWashJob -> 단일 스레드로 brainwashed_victims.jsonl 하나를 기록
+ *
+ * 구조
+ * 1. 파티션 Step - student_id 범위로 분할 (IdRangePartitioner)
+ *      -> 워커마다 자신의 샤드 파일 기록 ({filePath}/brainwashed_victims.parts/part-00000.jsonl ...)
+ * 2. 병합 Step - 샤드를 파티션 순서(= student_id 순서)로 이어붙여 brainwashed_victims.jsonl 생성
+ *      -> 단일 스레드 Job과 동일한 바이트
+ *
+ * Job 파라미터
+ * filePath - 출력 디렉토리
+ * keepShards - true면 병합하지 않고 샤드 + manifest.json 유지 (기본 false)
+ *
+ * 새 JobInstance 시작 시 샤드 디렉토리의 잔여 샤드 삭제 (StaleShardCleanupListener)
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class InFearLearnStudentsShardedBrainWashJobConfig {
+
+    private static final String TARGET_FILE = "brainwashed_victims.jsonl";
+    private static final String SHARD_DIRECTORY = "brainwashed_victims.parts";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+    private final JobExplorer jobExplorer;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${kill-batch.partition.grid-size:0}")
+    private int configuredGridSize;
+
+    @Bean
+    public Job inFearLearnStudentsShardedBrainWashJob(
+            Step brainwashPartitionStep,
+            Step brainwashShardMergeStep
+    ) {
+        return new JobBuilder("inFearLearnStudentsShardedBrainWashJob", jobRepository)
+                .listener(new StaleShardCleanupListener(jobExplorer, "filePath", SHARD_DIRECTORY))
+                .start(brainwashPartitionStep)
+                .next(brainwashShardMergeStep)
+                .build();
+    }
+
+    @Bean
+    public Step brainwashPartitionStep(
+            IdRangePartitioner studentIdRangePartitioner,
+            Step brainwashWorkerStep,
+            TaskExecutor brainwashPartitionTaskExecutor
+    ) {
+        return new StepBuilder("brainwashPartitionStep", jobRepository)
+                .partitioner("brainwashWorkerStep", studentIdRangePartitioner)
+                .step(brainwashWorkerStep)
+                .gridSize(gridSize())
+                .taskExecutor(brainwashPartitionTaskExecutor)
+                .build();
+    }
+
+    @Bean
+    public Step brainwashWorkerStep(
+            JdbcPagingItemReader<InFearLearnStudents> brainwashPartitionReader,
+            BrainwashProcessor brainwashProcessor,
+            JsonLinesItemWriter<BrainwashedVictim> brainwashShardWriter
+    ) {
+        return new StepBuilder("brainwashWorkerStep", jobRepository)
+                .<InFearLearnStudents, BrainwashedVictim>chunk(10, transactionManager)
+                .reader(brainwashPartitionReader)
+                .processor(brainwashProcessor)
+                .writer(brainwashShardWriter)
+                .build();
+    }
+
+    @Bean
+    public Step brainwashShardMergeStep(JsonLinesShardMergeTasklet brainwashShardMergeTasklet) {
+        return new StepBuilder("brainwashShardMergeStep", jobRepository)
+                .tasklet(brainwashShardMergeTasklet, transactionManager)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public IdRangePartitioner studentIdRangePartitioner() {
+        return new IdRangePartitioner(
+                new JdbcTemplate(dataSource),
+                "infearlearn_students",
+                "student_id",
+                null,
+                new Object[0],
+                Map.of()
+        );
+    }
+
+    /**
+     * 워커 Reader - 기존 inFearLearnStudentsReader + 파티션 범위 조건
+     */
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<InFearLearnStudents> brainwashPartitionReader(
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId
+    ) {
+        return new JdbcPagingItemReaderBuilder<InFearLearnStudents>()
+                .name("brainwashPartitionReader")
+                .dataSource(dataSource)
+                .selectClause("SELECT student_id, current_lecture, instructor, persuasion_method")
+                .fromClause("FROM infearlearn_students")
+                .whereClause("WHERE student_id BETWEEN :minId AND :maxId")
+                .sortKeys(Map.of("student_id", Order.ASCENDING))
+                .parameterValues(Map.of("minId", minId, "maxId", maxId))
+                .rowMapper(IndexedBeanRowMapper.of(InFearLearnStudents.class))
+                .pageSize(10)
+                .build();
+    }
+
+    /**
+     * 워커 Writer - 파티션 번호로 샤드 파일 이름 결정 (재시작 시에도 동일한 파일)
+     */
+    @Bean
+    @StepScope
+    public JsonLinesItemWriter<BrainwashedVictim> brainwashShardWriter(
+            @Value("#{jobParameters['filePath']}") String filePath,
+            @Value("#{stepExecutionContext['partitionIndex']}") Integer partitionIndex
+    ) {
+        return new JsonLinesItemWriter<>(
+                "brainwashShardWriter",
+                Path.of(filePath, SHARD_DIRECTORY, JsonLinesShardMergeTasklet.shardName(partitionIndex)),
+                objectMapper);
+    }
+
+    @Bean
+    @StepScope
+    public JsonLinesShardMergeTasklet brainwashShardMergeTasklet(
+            @Value("#{jobParameters['filePath']}") String filePath,
+            @Value("#{jobParameters['keepShards'] ?: false}") boolean keepShards
+    ) {
+        return new JsonLinesShardMergeTasklet(
+                Path.of(filePath, SHARD_DIRECTORY),
+                Path.of(filePath, TARGET_FILE),
+                keepShards,
+                jobExplorer,
+                "brainwashWorkerStep");
+    }
+
+    @Bean
+    public TaskExecutor brainwashPartitionTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(gridSize());
+        executor.setMaxPoolSize(gridSize());
+        executor.setThreadNamePrefix("brainwash-partition-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    private int gridSize() {
+        return configuredGridSize > 0
+                ? configuredGridSize
+                : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.killBatch.watermark;
+
+import com.example.killBatch.jdbcBatch.IndexedBeanRowMapper;
+import com.example.killBatch.jdbcBatch.Victim;
+import com.example.killBatch.jpaBatch.BlockedPost;
+import com.example.killBatch.jpaBatch.JpaCursorItemReaderTestConfig.PostBlockProcessor;
+import com.example.killBatch.jpaBatch.JpaKeysetItemReader;
+import com.example.killBatch.jpaBatch.Post;
+import com.example.killBatch.jpaBatch.StatelessSessionBlockedPostWriter;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 증분(incremental) 조회 - 워터마크 기반
+ *
+ * 기존 방식
+ * - JPA 게시글 Reader -> startDateTime ~ endDateTime 파라미터 구간 전체 조회
+ * - victims Reader -> LocalDateTime.now() 이전 전체 조회
+ * -> 매 실행마다 운영자가 지정한 구간 전체를 다시 스캔 (1시간치 신규 데이터를 위해 30일치 스캔)
+ *
+ * 증분 방식
+ * 1. WatermarkTrackingListener.beforeStep - 조회 범위 고정
+ *      하한 = batch_watermark에 기록된 (시각, id), 상한 = Step 시작 시점의 최대 (시각, id)
+ * 2. Reader - (하한, 상한] 범위 데이터만 조회
+ * 3. Step 성공 시 - 상한을 batch_watermark에 기록 -> 다음 실행의 하한
+ *
+ * 워터마크 이름
+ * victims.terminated - victims.terminated_at, victims.id
+ * posts.reported - reports.reported_at, reports.id
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class IncrementalReaderTestConfig {
+
+    private static final String VICTIM_WATERMARK = "victims.terminated";
+    private static final String POST_WATERMARK = "posts.reported";
+
+    // 조회 범위 상한 - Step 시작 시점의 최대 (시각, id)
+    private static final String VICTIM_LATEST_SQL = """
+            SELECT terminated_at, id FROM victims
+            WHERE status = ? AND terminated_at IS NOT NULL
+            ORDER BY terminated_at DESC, id DESC
+            LIMIT 1
+            """;
+
+    private static final String REPORT_LATEST_SQL = """
+            SELECT reported_at, id FROM reports
+            WHERE reported_at IS NOT NULL
+            ORDER BY reported_at DESC, id DESC
+            LIMIT 1
+            """;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+    private final WatermarkRepository watermarkRepository;
+
+    @Bean
+    public Job incrementalVictimJob(Step incrementalVictimStep) {
+        return new JobBuilder("incrementalVictimJob", jobRepository)
+                .start(incrementalVictimStep)
+                .build();
+    }
+
+    @Bean
+    public Job incrementalPostJob(Step incrementalPostStep) {
+        return new JobBuilder("incrementalPostJob", jobRepository)
+                .start(incrementalPostStep)
+                .build();
+    }
+
+    @Bean
+    public Step incrementalVictimStep(
+            JdbcCursorItemReader<Victim> incrementalVictimReader,
+            ItemWriter<Victim> victimPartitionWriter
+    ) {
+        WatermarkTrackingListener watermarkListener = new WatermarkTrackingListener(
+                VICTIM_WATERMARK,
+                watermarkRepository,
+                () -> watermarkRepository.findLatest(VICTIM_LATEST_SQL, "TERMINATED").orElse(null));
+
+        return new StepBuilder("incrementalVictimStep", jobRepository)
+                .<Victim, Victim>chunk(5, transactionManager)
+                .reader(incrementalVictimReader)
+                .writer(victimPartitionWriter)
+                .listener((StepExecutionListener) watermarkListener)
+                .build();
+    }
+
+    @Bean
+    public Step incrementalPostStep(
+            JpaKeysetItemReader<Post> incrementalPostReader,
+            PostBlockProcessor postBlockProcessor,
+            StatelessSessionBlockedPostWriter statelessSessionBlockedPostWriter
+    ) {
+        WatermarkTrackingListener watermarkListener = new WatermarkTrackingListener(
+                POST_WATERMARK,
+                watermarkRepository,
+                () -> watermarkRepository.findLatest(REPORT_LATEST_SQL).orElse(null));
+
+        return new StepBuilder("incrementalPostStep", jobRepository)
+                .<Post, BlockedPost>chunk(5, transactionManager)
+                .reader(incrementalPostReader)
+                .processor(postBlockProcessor)
+                .writer(statelessSessionBlockedPostWriter)
+                .listener((StepExecutionListener) watermarkListener)
+                .build();
+    }
+
+    /**
+     * (terminated_at, id) 순서로 정렬 -> 워터마크 비교 조건과 동일한 순서
+     * 조회 범위 (하한, 상한]은 WatermarkTrackingListener.beforeStep에서 고정
+     */
+    @Bean
+    @StepScope
+    public JdbcCursorItemReader<Victim> incrementalVictimReader(
+            @Value("#{stepExecutionContext['watermark.victims.terminated.lower']}") Watermark lower,
+            @Value("#{stepExecutionContext['watermark.victims.terminated.upper']}") Watermark upper
+    ) {
+        return new JdbcCursorItemReaderBuilder<Victim>()
+                .name("incrementalVictimReader")
+                .dataSource(dataSource)
+                .sql("""
+                        SELECT * FROM victims
+                        WHERE status = ?
+                        AND (terminated_at > ? OR (terminated_at = ? AND id > ?))
+                        AND (terminated_at < ? OR (terminated_at = ? AND id <= ?))
+                        ORDER BY terminated_at, id
+                        """)
+                .queryArguments(List.of("TERMINATED",
+                        lower.at(), lower.at(), lower.id(),
+                        upper.at(), upper.at(), upper.id()))
+                .fetchSize(100)
+                .rowMapper(IndexedBeanRowMapper.of(Victim.class))
+                .build();
+    }
+
+    /**
+     * (하한, 상한] 범위의 신고가 있는 게시글만 조회 (키셋 페이징)
+     * 상한 이후 커밋된 신고는 이번 실행에서 제외 -> 다음 실행에서 조회
+     */
+    @Bean
+    @StepScope
+    public JpaKeysetItemReader<Post> incrementalPostReader(
+            @Value("#{stepExecutionContext['watermark.posts.reported.lower']}") Watermark lower,
+            @Value("#{stepExecutionContext['watermark.posts.reported.upper']}") Watermark upper
+    ) {
+        return new JpaKeysetItemReader<>(
+                "incrementalPostReader",
+                entityManagerFactory,
+                """
+                SELECT p FROM Post p
+                WHERE p.id > :lastId
+                AND EXISTS (
+                    SELECT 1 FROM Report r
+                    WHERE r.post = p
+                    AND (r.reportedAt > :lowerAt
+                        OR (r.reportedAt = :lowerAt AND r.id > :lowerId))
+                    AND (r.reportedAt < :upperAt
+                        OR (r.reportedAt = :upperAt AND r.id <= :upperId))
+                )
+                ORDER BY p.id ASC
+                """,
+                Post.class,
+                Map.of(
+                        "lowerAt", lower.at(),
+                        "lowerId", lower.id(),
+                        "upperAt", upper.at(),
+                        "upperId", upper.id()
+                ),
+                Post::getId,
+                5
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.killBatch.watermark;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 고수위 표시(high-water mark) - 마지막으로 처리한 (시각, id)
+ *
+ * 같은 시각의 데이터가 여러 건일 수 있으므로 id를 보조 정렬 키로 함께 기록
+ * 다음 실행 조건 -> (at > :at) OR (at = :at AND id > :id)
+ *
+ * Serializable -> StepExecutionContext에 그대로 저장 (조회 범위 하한 / 상한)
+ */
+public record Watermark(LocalDateTime at, long id) implements Comparable<Watermark>, Serializable {
+
+    // 기록이 없을 때 -> 전체 조회
+    public static final Watermark INITIAL = new Watermark(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    @Override
+    public int compareTo(Watermark other) {
+        int result = at.compareTo(other.at);
+        return result != 0 ? result : Long.compare(id, other.id);
+    }
+
+    public Watermark max(Watermark other) {
+        return other == null || compareTo(other) >= 0 ? this : other;
+    }
+}
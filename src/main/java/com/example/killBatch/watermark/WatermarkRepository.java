@@ -0,0 +1,72 @@
+package com.example.killBatch.watermark;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * batch_watermark 테이블 접근 (JdbcTemplate)
+ *
+ * name - 워터마크 이름 (Step 또는 대상 데이터 단위, ex. victims.terminated)
+ */
+@Repository
+public class WatermarkRepository {
+
+    private static final String FIND_SQL =
+            "SELECT watermark_at, watermark_id FROM batch_watermark WHERE name = ?";
+
+    private static final String UPDATE_SQL =
+            "UPDATE batch_watermark SET watermark_at = ?, watermark_id = ?, updated_at = ? WHERE name = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO batch_watermark (name, watermark_at, watermark_id, updated_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public WatermarkRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public Optional<Watermark> find(String name) {
+        List<Watermark> result = jdbcTemplate.query(FIND_SQL,
+                (rs, rowNum) -> new Watermark(
+                        rs.getTimestamp("watermark_at").toLocalDateTime(),
+                        rs.getLong("watermark_id")),
+                name);
+        return result.stream().findFirst();
+    }
+
+    /**
+     * 대상 테이블의 현재 최대 (시각, id) - 조회 범위 상한
+     *
+     * @param latestSql (시각, id) 두 컬럼을 (시각 DESC, id DESC) 순으로 1행만 반환하는 쿼리
+     * @return 대상 데이터가 없으면 empty
+     */
+    public Optional<Watermark> findLatest(String latestSql, Object... args) {
+        List<Watermark> result = jdbcTemplate.query(latestSql,
+                (rs, rowNum) -> new Watermark(rs.getTimestamp(1).toLocalDateTime(), rs.getLong(2)),
+                args);
+        return result.stream().findFirst();
+    }
+
+    public Watermark findOrInitial(String name) {
+        return find(name).orElse(Watermark.INITIAL);
+    }
+
+    /**
+     * UPDATE 후 대상 행이 없으면 INSERT
+     */
+    public void save(String name, Watermark watermark) {
+        Timestamp at = Timestamp.valueOf(watermark.at());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        int updated = jdbcTemplate.update(UPDATE_SQL, at, watermark.id(), now, name);
+        if (updated == 0) {
+            jdbcTemplate.update(INSERT_SQL, name, at, watermark.id(), now);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.killBatch.watermark;
+
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * 워터마크 조회 범위 리스너
+ *
+ * 1. beforeStep - 조회 범위 (하한, 상한]을 고정해서 StepExecutionContext에 저장
+ *      - 하한 = batch_watermark에 기록된 값 (없으면 Watermark.INITIAL)
+ *      - 상한 = Step 시작 시점 대상 데이터의 최대 (시각, id)
+ * 2. Reader - #{stepExecutionContext[...]}로 하한 / 상한을 받아 (하한, 상한] 범위만 조회
+ * 3. afterStep - Step이 COMPLETED인 경우에만 상한을 batch_watermark에 기록 -> 다음 실행의 하한
+ *      -> 실패한 실행은 워터마크를 올리지 않음 (다음 실행에서 다시 조회)
+ *
+ * 읽은 아이템의 최대값이 아니라 상한을 기록하는 이유
+ * - Step 실행 중 커밋된 데이터는 이미 지나간 페이지/커서 위치에 있으면 이번 실행에서 읽히지 않는다
+ * - 읽은 최대값을 기록하면 뒤쪽 페이지에서 본 더 최신 데이터 때문에 워터마크가 놓친 데이터를 넘어선다
+ *      -> 다음 실행에서도 영원히 조회되지 않음
+ * - 상한 이후 데이터는 이번 실행에서 제외되고 다음 실행에서 조회된다
+ *
+ * 재시작
+ * - 재시작 시 이전 실행의 StepExecutionContext가 복원되므로 같은 (하한, 상한]을 그대로 사용
+ *
+ * 등록 - .listener((StepExecutionListener) listener), Reader는 @StepScope (beforeStep 이후 생성)
+ *
+ * 주의사항
+ * - 상한보다 과거 시각으로 늦게 커밋되는 데이터는 다음 실행에서도 조회되지 않는다
+ *      -> 시각 컬럼은 DB 저장 시점 기준으로 기록되는 값이어야 한다
+ */
+@Slf4j
+public class WatermarkTrackingListener implements StepExecutionListener {
+
+    private final String name;
+    private final WatermarkRepository watermarkRepository;
+    private final Supplier<Watermark> upperBoundQuery;
+
+    /**
+     * @param name            워터마크 이름 (batch_watermark.name)
+     * @param upperBoundQuery 대상 데이터의 현재 최대 (시각, id), 데이터가 없으면 null
+     */
+    public WatermarkTrackingListener(String name, WatermarkRepository watermarkRepository,
+            Supplier<Watermark> upperBoundQuery) {
+        this.name = name;
+        this.watermarkRepository = watermarkRepository;
+        this.upperBoundQuery = upperBoundQuery;
+    }
+
+    public static String lowerKey(String name) {
+        return "watermark." + name + ".lower";
+    }
+
+    public static String upperKey(String name) {
+        return "watermark." + name + ".upper";
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        if (executionContext.containsKey(upperKey(name))) {
+            log.info("워터마크 [{}] 재시작 - 이전 실행 범위 ({}, {}]", name,
+                    executionContext.get(lowerKey(name)), executionContext.get(upperKey(name)));
+            return;
+        }
+
+        Watermark lower = watermarkRepository.findOrInitial(name);
+        Watermark latest = upperBoundQuery.get();
+        // 새 데이터가 없으면 상한 = 하한 -> 빈 범위
+        Watermark upper = latest == null ? lower : latest.max(lower);
+
+        executionContext.put(lowerKey(name), lower);
+        executionContext.put(upperKey(name), upper);
+        log.info("워터마크 [{}] 조회 범위 ({}, {}]", name, lower, upper);
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        boolean completed = stepExecution.getFailureExceptions().isEmpty()
+                && ExitStatus.COMPLETED.getExitCode().equals(stepExecution.getExitStatus().getExitCode());
+
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        Watermark lower = (Watermark) executionContext.get(lowerKey(name));
+        Watermark upper = (Watermark) executionContext.get(upperKey(name));
+
+        if (!completed) {
+            log.info("워터마크 [{}] 유지 - Step 미완료 ({})", name, stepExecution.getExitStatus().getExitCode());
+        } else if (upper == null || upper.equals(lower)) {
+            log.info("워터마크 [{}] 유지 - 새 데이터 없음", name);
+        } else {
+            watermarkRepository.save(name, upper);
+            log.info("워터마크 [{}] 갱신 -> {}", name, upper);
+        }
+        return null;
+    }
+}
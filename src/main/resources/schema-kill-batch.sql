@@ -0,0 +1,51 @@
+-- 증분 조회 워터마크 (WatermarkRepository)
+CREATE TABLE IF NOT EXISTS batch_watermark (
+    name VARCHAR(100) PRIMARY KEY,
+    watermark_at TIMESTAMP NOT NULL,
+    watermark_id BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+-- JSONL 적재 대상 (BrainwashedVictimIngestJobConfig)
+CREATE TABLE IF NOT EXISTS brainwashed_victims (
+    victim_id BIGINT PRIMARY KEY,
+    original_lecture VARCHAR(255),
+    original_instructor VARCHAR(255),
+    brainwash_message VARCHAR(1000),
+    new_master VARCHAR(255),
+    conversion_method VARCHAR(255),
+    brainwash_status VARCHAR(255),
+    next_action VARCHAR(255)
+);
+
+-- 프로세스 처형 대상 (jdbcPagingItemReaderTestJob, 파티셔닝 예제, SyntheticDataGeneratorJobConfig)
+CREATE TABLE IF NOT EXISTS victims (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(255),
+    process_id VARCHAR(255),
+    terminated_at TIMESTAMP,
+    status VARCHAR(50)
+);
+
+-- 주문 (jdbcBatchItemWriterTestJob, SyntheticDataGeneratorJobConfig)
+CREATE TABLE IF NOT EXISTS orders (
+    id BIGINT PRIMARY KEY,
+    customer_id BIGINT,
+    order_datetime TIMESTAMP,
+    status VARCHAR(255),
+    shipping_id VARCHAR(255)
+);
+
+-- skip된 아이템 기록 (DeadLetterSkipListener, DeadLetterReplayJobConfig)
+CREATE TABLE IF NOT EXISTS batch_dead_letter (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    job_execution_id BIGINT NOT NULL,
+    step_execution_id BIGINT NOT NULL,
+    step_name VARCHAR(100) NOT NULL,
+    phase VARCHAR(10) NOT NULL,
+    exception_class VARCHAR(255) NOT NULL,
+    exception_message VARCHAR(2000),
+    payload TEXT,
+    created_at TIMESTAMP NOT NULL,
+    replayed_at TIMESTAMP
+);
@@ -0,0 +1,106 @@
+package com.example.killBatch.deadLetter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * dead letter 저장 / 재처리 통합 테스트
+ * skipItemProcessorTestJob - 3번, 7번 게시글이 Processor에서 skip -> batch_dead_letter에 PROCESS 단계로 저장
+ * deadLetterReplayJob - 다시 처리에 성공한 dead letter만 replayed_at 기록
+ *
+ * skipItemProcessorTestProcessor는 실패를 3번까지만 허용 (자비 카운트)
+ * -> 원래 Job에서 2번 실패 -> 첫 재처리에서 3번 게시글은 다시 실패, 7번은 성공 -> 두 번째 재처리에서 3번 성공
+ */
+@SpringBatchTest
+@SpringBootTest
+@ActiveProfiles("test")
+class DeadLetterReplayJobTest {
+
+    private static final String STEP_NAME = "skipItemProcessorTestStep";
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Job skipItemProcessorTestJob;
+
+    @Autowired
+    private Job deadLetterReplayJob;
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM batch_dead_letter WHERE step_name = ?", STEP_NAME);
+    }
+
+    @Test
+    @DisplayName("💀 skip된 게시글은 dead letter로 저장되고, 재처리에 성공한 것만 처리 완료")
+    void shouldSaveDeadLettersAndMarkOnlyReplayedOnes() throws Exception {
+        // Given - 원래 Job 실행
+        jobLauncherTestUtils.setJob(skipItemProcessorTestJob);
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(
+                jobLauncherTestUtils.getUniqueJobParameters());
+
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        StepExecution stepExecution = jobExecution.getStepExecutions().iterator().next();
+        assertThat(stepExecution.getProcessSkipCount()).isEqualTo(2);
+
+        List<Map<String, Object>> deadLetters = findDeadLetters();
+        assertThat(deadLetters).hasSize(2);
+        assertThat(deadLetters).allSatisfy(row -> {
+            assertThat(row.get("phase")).isEqualTo("PROCESS");
+            assertThat(((Number) row.get("step_execution_id")).longValue()).isEqualTo(stepExecution.getId());
+            assertThat(row.get("replayed_at")).isNull();
+        });
+        assertThat(deadLetters.get(0).get("payload").toString()).contains("\"id\":3");
+        assertThat(deadLetters.get(1).get("payload").toString()).contains("\"id\":7");
+
+        // When - 첫 재처리 (3번은 다시 실패)
+        JobExecution firstReplay = launchReplay();
+
+        // Then - 성공한 7번만 처리 완료
+        assertThat(firstReplay.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        deadLetters = findDeadLetters();
+        assertThat(deadLetters.get(0).get("replayed_at")).isNull();
+        assertThat(deadLetters.get(1).get("replayed_at")).isNotNull();
+
+        // When - 두 번째 재처리 (처리 완료된 7번은 다시 읽지 않음)
+        JobExecution secondReplay = launchReplay();
+
+        // Then
+        assertThat(secondReplay.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(secondReplay.getStepExecutions().iterator().next().getReadCount()).isEqualTo(1);
+        assertThat(findDeadLetters()).allSatisfy(row -> assertThat(row.get("replayed_at")).isNotNull());
+    }
+
+    private JobExecution launchReplay() throws Exception {
+        jobLauncherTestUtils.setJob(deadLetterReplayJob);
+        return jobLauncherTestUtils.launchJob(new JobParametersBuilder(jobLauncherTestUtils.getUniqueJobParameters())
+                .addString("stepName", STEP_NAME)
+                .toJobParameters());
+    }
+
+    private List<Map<String, Object>> findDeadLetters() {
+        return jdbcTemplate.queryForList(
+                "SELECT phase, step_execution_id, payload, replayed_at FROM batch_dead_letter "
+                        + "WHERE step_name = ? ORDER BY id", STEP_NAME);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.killBatch.faultTolerance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+
+import com.example.killBatch.jpaBatch.Post;
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+/**
+ * 이분 탐색 스캔 통합 테스트 (JpaTransactionManager 청크 트랜잭션 + JDBC 세이브포인트)
+ * 10건 청크 중 불량 7번만 skip되고 나머지 9건은 같은 청크 트랜잭션으로 커밋되어야 한다
+ * skip된 7번은 Writer에 전달한 DeadLetterSkipListener로 dead letter에 남아야 한다
+ */
+@SpringBatchTest
+@SpringBootTest
+@ActiveProfiles("test")
+class BisectingSkipItemWriterJobTest {
+
+    private static final String STEP_NAME = "bisectingSkipItemWriterTestStep";
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Job bisectingSkipItemWriterTestJob;
+
+    @MockitoSpyBean(name = "bisectingSkipListener")
+    private SkipListener<Post, Post> bisectingSkipListener;
+
+    @PostConstruct
+    public void configureJobLauncherTestUtils() throws Exception {
+        jobLauncherTestUtils.setJob(bisectingSkipItemWriterTestJob);
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM batch_dead_letter WHERE step_name = ?", STEP_NAME);
+    }
+
+    @Test
+    @DisplayName("💀 불량 게시글 1건만 skip하고 나머지는 커밋")
+    void shouldSkipOnlyPoisonItem() throws Exception {
+        // When
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(
+                jobLauncherTestUtils.getUniqueJobParameters());
+
+        // Then
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        StepExecution stepExecution = jobExecution.getStepExecutions().iterator().next();
+        assertThat(stepExecution.getReadCount()).isEqualTo(10);
+        assertThat(stepExecution.getWriteSkipCount()).isEqualTo(1);
+        assertThat(stepExecution.getWriteCount()).isEqualTo(9);
+
+        verify(bisectingSkipListener).onSkipInWrite(argThat(post -> post.getId() == 7L), any(TestException.class));
+
+        // 청크 커밋 시점에 저장된 StepExecution에도 보정된 카운트가 반영되어야 한다
+        Map<String, Object> saved = jdbcTemplate.queryForMap(
+                "SELECT write_count, write_skip_count FROM batch_step_execution WHERE step_execution_id = ?",
+                stepExecution.getId());
+        assertThat(((Number) saved.get("write_count")).longValue()).isEqualTo(9);
+        assertThat(((Number) saved.get("write_skip_count")).longValue()).isEqualTo(1);
+
+        List<Map<String, Object>> deadLetters = jdbcTemplate.queryForList(
+                "SELECT phase, payload FROM batch_dead_letter WHERE step_name = ?", STEP_NAME);
+        assertThat(deadLetters).hasSize(1);
+        assertThat(deadLetters.get(0).get("phase")).isEqualTo("WRITE");
+        assertThat(deadLetters.get(0).get("payload").toString()).contains("\"id\":7");
+    }
+}
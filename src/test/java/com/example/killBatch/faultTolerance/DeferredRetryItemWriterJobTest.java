@@ -0,0 +1,78 @@
+package com.example.killBatch.faultTolerance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 지연 재시도 통합 테스트 (JpaTransactionManager 청크 트랜잭션 + JDBC 세이브포인트)
+ * 7번 게시글은 처음 2번 실패 -> 7~9번 청크가 대기열에서 세 번째 시도에 성공해야 한다
+ */
+@SpringBatchTest
+@SpringBootTest
+@ActiveProfiles("test")
+class DeferredRetryItemWriterJobTest {
+
+    private static final String STEP_NAME = "deferredRetryItemWriterTestStep";
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Job deferredRetryItemWriterTestJob;
+
+    @PostConstruct
+    public void configureJobLauncherTestUtils() throws Exception {
+        jobLauncherTestUtils.setJob(deferredRetryItemWriterTestJob);
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM batch_dead_letter WHERE step_name = ?", STEP_NAME);
+    }
+
+    @Test
+    @DisplayName("💀 일시 장애 청크는 대기열에서 재시도 후 Step 완료")
+    void shouldRecoverParkedChunkAfterStep() throws Exception {
+        // When
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(
+                jobLauncherTestUtils.getUniqueJobParameters());
+
+        // Then - 세이브포인트 롤백 후 대기열 보관 (청크 1~3, 4~6, 10은 그대로 커밋)
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        StepExecution stepExecution = jobExecution.getStepExecutions().iterator().next();
+        assertThat(stepExecution.getWriteCount()).isEqualTo(10);
+
+        // 시도 1 (청크 트랜잭션) 실패 -> 시도 2 (afterStep) 실패 -> 시도 3 성공
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        assertThat(executionContext.getLong("deferredRetry.parked")).isEqualTo(2);
+        assertThat(executionContext.getLong("deferredRetry.recovered")).isEqualTo(1);
+        assertThat(executionContext.getLong("deferredRetry.exhausted")).isZero();
+
+        // 대기 중이던 7~9번 dead letter -> 재시도 성공으로 처리 완료 표시
+        List<Map<String, Object>> deadLetters = jdbcTemplate.queryForList(
+                "SELECT payload, replayed_at FROM batch_dead_letter WHERE step_name = ? ORDER BY id", STEP_NAME);
+        assertThat(deadLetters).hasSize(3);
+        assertThat(deadLetters).allSatisfy(row -> assertThat(row.get("replayed_at")).isNotNull());
+        assertThat(deadLetters.get(0).get("payload").toString()).contains("\"id\":7");
+    }
+}
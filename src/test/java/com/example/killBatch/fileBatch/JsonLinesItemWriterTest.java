@@ -0,0 +1,203 @@
+package com.example.killBatch.fileBatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JsonLinesItemWriter 실패 복구 테스트
+ * 아이템 직렬화 도중 실패 후 재시도 -> 반쯤 쓰인 바이트 없이 재시도 결과만 기록되어야 한다
+ * 파일 쓰기 실패 -> 청크 커밋이 실패하고, 마지막 커밋 위치로 재시작할 수 있어야 한다
+ */
+class JsonLinesItemWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    private Path tempDir;
+
+    private Path file;
+    private JsonLinesItemWriter<FlakyItem> writer;
+
+    @BeforeEach
+    void setUp() {
+        file = tempDir.resolve("items.jsonl");
+        writer = new JsonLinesItemWriter<>("itemsWriter", file, objectMapper);
+        writer.open(new ExecutionContext());
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.close();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("💀 아이템 중간에서 실패 후 재시도 - 재시도한 청크만 기록")
+    void shouldDiscardPartialItemAndRetryCleanly() throws Exception {
+        // Given - 두 번째 아이템은 name 필드를 쓴 뒤 detail에서 한 번 실패
+        FlakyItem first = new FlakyItem("first", false);
+        FlakyItem second = new FlakyItem("second", true);
+
+        // When
+        assertThatThrownBy(() -> writer.write(Chunk.of(first, second)))
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+        writer.write(Chunk.of(first, second));
+        writer.write(Chunk.of(new FlakyItem("third", false)));
+
+        // Then
+        assertThat(Files.readAllLines(file)).containsExactly(
+                objectMapper.writeValueAsString(first),
+                objectMapper.writeValueAsString(second),
+                objectMapper.writeValueAsString(new FlakyItem("third", false)));
+    }
+
+    @Test
+    @DisplayName("💀 트랜잭션 롤백 - 롤백된 청크는 기록되지 않음")
+    void shouldDiscardRolledBackChunk() throws Exception {
+        // Given - 청크 트랜잭션 안에서 실패
+        TransactionSynchronizationManager.initSynchronization();
+        writer.write(Chunk.of(new FlakyItem("committed-later", false)));
+        assertThatThrownBy(() -> writer.write(Chunk.of(new FlakyItem("broken", true))))
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+
+        // When - 롤백
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // 재시도 (트랜잭션 없음 -> 바로 기록)
+        FlakyItem retried = new FlakyItem("retried", false);
+        writer.write(Chunk.of(retried));
+
+        // Then
+        assertThat(Files.readAllLines(file)).containsExactly(objectMapper.writeValueAsString(retried));
+    }
+
+    @Test
+    @DisplayName("💀 파일 쓰기 실패 - 청크 롤백 후 마지막 커밋 위치로 재시작")
+    void shouldRestartAfterChannelWriteFailure() throws Exception {
+        // Given - 두 번째 청크 기록 중 절반만 쓰고 실패 (디스크 가득 참)
+        writer.close();
+        writer = new FailingChannelWriter(file, objectMapper, 2);
+        ExecutionContext executionContext = new ExecutionContext();
+        writer.open(executionContext);
+
+        FlakyItem first = new FlakyItem("first", false);
+        commitChunk(executionContext, Chunk.of(first));
+        ExecutionContext committed = new ExecutionContext(executionContext);
+
+        // When - 커밋 직전 기록 실패 -> 커밋 대신 롤백
+        assertThatThrownBy(() -> commitChunk(executionContext, Chunk.of(new FlakyItem("lost", false))))
+                .isInstanceOf(UncheckedIOException.class);
+        writer.close();
+
+        // 재시작 - 마지막으로 커밋된 ExecutionContext로 다시 열기
+        writer = new JsonLinesItemWriter<>("itemsWriter", file, objectMapper);
+        writer.open(committed);
+        FlakyItem retried = new FlakyItem("retried", false);
+        writer.write(Chunk.of(retried));
+
+        // Then - 커밋된 청크 + 재시작 후 청크만 존재
+        assertThat(Files.readAllLines(file)).containsExactly(
+                objectMapper.writeValueAsString(first),
+                objectMapper.writeValueAsString(retried));
+    }
+
+    /**
+     * TaskletStep 청크 트랜잭션 흉내
+     * write -> update(ExecutionContext 저장) -> beforeCommit -> 커밋 (beforeCommit 예외 시 롤백)
+     */
+    private void commitChunk(ExecutionContext executionContext, Chunk<FlakyItem> chunk) throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            writer.write(chunk);
+            ExecutionContext updated = new ExecutionContext(executionContext);
+            writer.update(updated);
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            try {
+                synchronizations.forEach(sync -> sync.beforeCommit(false));
+            } catch (RuntimeException e) {
+                synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+                throw e;
+            }
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            updated.entrySet().forEach(entry -> executionContext.put(entry.getKey(), entry.getValue()));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    /**
+     * failOnWrite 번째 채널 기록에서 절반만 쓰고 IOException
+     */
+    private static class FailingChannelWriter extends JsonLinesItemWriter<FlakyItem> {
+
+        private final int failOnWrite;
+        private int writes;
+
+        FailingChannelWriter(Path path, ObjectMapper objectMapper, int failOnWrite) {
+            super("itemsWriter", path, objectMapper);
+            this.failOnWrite = failOnWrite;
+        }
+
+        @Override
+        void writeToChannel(FileChannel channel, ByteBuffer bytes) throws IOException {
+            if (++writes == failOnWrite) {
+                bytes.limit(bytes.position() + bytes.remaining() / 2);
+                super.writeToChannel(channel, bytes);
+                throw new IOException("No space left on device");
+            }
+            super.writeToChannel(channel, bytes);
+        }
+    }
+
+    /**
+     * name -> detail 순서로 직렬화, failOnce면 detail 직렬화에서 한 번 실패
+     */
+    @JsonPropertyOrder({"name", "detail"})
+    public static class FlakyItem {
+
+        private final String name;
+        private final AtomicBoolean failOnce;
+
+        FlakyItem(String name, boolean failOnce) {
+            this.name = name;
+            this.failOnce = new AtomicBoolean(failOnce);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDetail() {
+            if (failOnce.getAndSet(false)) {
+                throw new IllegalStateException("직렬화 실패: " + name);
+            }
+            return "detail-" + name;
+        }
+    }
+}
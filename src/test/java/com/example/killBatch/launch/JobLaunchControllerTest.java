@@ -0,0 +1,160 @@
+package com.example.killBatch.launch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 상주형 Job 실행 서비스 통합 테스트 (POST /jobs/{jobName}/launches)
+ *
+ * blockingLaunchTestJob - RELEASE 래치가 열릴 때까지 대기 (동시 실행 한도 1)
+ * quickLaunchTestJob - 바로 완료
+ * -> blockingLaunchTestJob이 한도에 걸려 대기열에 남아 있어도 quickLaunchTestJob은 먼저 실행되어야 한다
+ */
+@SpringBootTest(properties = {
+        "kill-batch.launcher.service.enabled=true",
+        "kill-batch.launcher.service.queue-capacity=2",
+        "kill-batch.launcher.service.default-concurrency-per-job=1",
+        "kill-batch.launcher.service.allowed-jobs=blockingLaunchTestJob,quickLaunchTestJob,unregisteredLaunchTestJob",
+        "kill-batch.launcher.service.allowed-parameters=runId",
+        "kill-batch.launcher.service.shutdown-timeout-seconds=5"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class JobLaunchControllerTest {
+
+    private static final CountDownLatch RELEASE = new CountDownLatch(1);
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @AfterEach
+    void release() {
+        RELEASE.countDown();
+    }
+
+    @Test
+    @DisplayName("💀 한도에 걸린 Job은 대기, 다른 Job은 먼저 실행 - 대기열 초과 429, 허용 목록 밖 403, 미등록 Job 404")
+    void shouldLaunchJobsWithAdmissionControl() throws Exception {
+        // Given - 동시 실행 한도 1을 채우는 Job + 한도에 걸려 대기열에 남는 같은 Job
+        long running = launch("blockingLaunchTestJob");
+        awaitStatus(running, "LAUNCHED");
+        long waiting = launch("blockingLaunchTestJob");
+
+        // When - 다른 Job 요청
+        long quick = launch("quickLaunchTestJob");
+
+        // Then - 대기열 앞의 요청에 막히지 않고 완료
+        awaitStatus(quick, "COMPLETED");
+        assertThat(statusOf(waiting)).isEqualTo("QUEUED");
+
+        // 대기열 초과 (capacity 2) -> 429
+        launch("blockingLaunchTestJob");
+        mockMvc.perform(post("/jobs/blockingLaunchTestJob/launches"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.reason").value("QUEUE_FULL"));
+
+        // 허용 목록 밖의 Job / 파라미터 -> 403
+        mockMvc.perform(post("/jobs/skipItemProcessorTestJob/launches"))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.reason").value("NOT_ALLOWED"));
+        mockMvc.perform(post("/jobs/quickLaunchTestJob/launches")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"filePath\": \"/tmp/out\"}"))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.reason").value("NOT_ALLOWED"));
+
+        // 허용했지만 등록되지 않은 Job -> 404
+        mockMvc.perform(post("/jobs/unregisteredLaunchTestJob/launches"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.reason").value("UNKNOWN_JOB"));
+
+        // 한도 해제 -> 대기 중이던 요청까지 완료
+        RELEASE.countDown();
+        awaitStatus(running, "COMPLETED");
+        awaitStatus(waiting, "COMPLETED");
+    }
+
+    private long launch(String jobName) throws Exception {
+        String body = mockMvc.perform(post("/jobs/{jobName}/launches", jobName)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"runId\": \"" + System.nanoTime() + "\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("QUEUED"))
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).path("id").asLong();
+    }
+
+    private String statusOf(long ticketId) throws Exception {
+        String body = mockMvc.perform(get("/jobs/launches/{ticketId}", ticketId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode ticket = objectMapper.readTree(body);
+        return ticket.path("status").asText();
+    }
+
+    private void awaitStatus(long ticketId, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        String current = statusOf(ticketId);
+        while (!expected.equals(current) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            current = statusOf(ticketId);
+        }
+        assertThat(current).as("ticket %d", ticketId).isEqualTo(expected);
+    }
+
+    @TestConfiguration
+    static class LaunchTestJobConfig {
+
+        @Bean
+        public Job blockingLaunchTestJob(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+            Step step = new StepBuilder("blockingLaunchTestStep", jobRepository)
+                    .tasklet((contribution, chunkContext) -> {
+                        RELEASE.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                        return RepeatStatus.FINISHED;
+                    }, transactionManager)
+                    .build();
+            return new JobBuilder("blockingLaunchTestJob", jobRepository)
+                    .start(step)
+                    .build();
+        }
+
+        @Bean
+        public Job quickLaunchTestJob(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+            Step step = new StepBuilder("quickLaunchTestStep", jobRepository)
+                    .tasklet((contribution, chunkContext) -> RepeatStatus.FINISHED, transactionManager)
+                    .build();
+            return new JobBuilder("quickLaunchTestJob", jobRepository)
+                    .start(step)
+                    .build();
+        }
+    }
+}
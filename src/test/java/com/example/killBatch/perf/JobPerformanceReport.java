@@ -0,0 +1,108 @@
+package com.example.killBatch.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+
+/**
+ * Job 1회 실행의 성능 측정 결과 (build/perf/*.json 으로 기록)
+ *
+ * items - 파티션 워커를 제외한 Step들의 readCount 합 (매니저 Step이 워커 합계를 가짐)
+ * itemsPerSecond - items / Job 전체 소요 시간
+ * peakHeapBytes - 실행 중 힙 메모리 풀별 최대 사용량의 합 (풀마다 최대 시점이 달라 상한 근사치)
+ * sqlStatements - 실행 중 Statement.execute* 호출 수 (Step 밖의 호출 포함)
+ */
+public record JobPerformanceReport(
+        String jobName,
+        long rows,
+        String status,
+        LocalDateTime recordedAt,
+        long durationMillis,
+        long items,
+        double itemsPerSecond,
+        long peakHeapBytes,
+        long sqlStatements,
+        List<StepPerformance> steps
+) {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    public record StepPerformance(
+            String stepName,
+            long readCount,
+            long writeCount,
+            long filterCount,
+            long durationMillis,
+            double itemsPerSecond,
+            long sqlStatements
+    ) {
+    }
+
+    public static JobPerformanceReport of(JobExecution jobExecution, long rows, long peakHeapBytes,
+            Map<String, Long> sqlStatementsByStep) {
+        List<StepPerformance> steps = new ArrayList<>();
+        long items = 0;
+        for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+            long stepMillis = millisBetween(stepExecution.getStartTime(), stepExecution.getEndTime());
+            steps.add(new StepPerformance(
+                    stepExecution.getStepName(),
+                    stepExecution.getReadCount(),
+                    stepExecution.getWriteCount(),
+                    stepExecution.getFilterCount(),
+                    stepMillis,
+                    perSecond(stepExecution.getReadCount(), stepMillis),
+                    sqlStatementsByStep.getOrDefault(stepExecution.getStepName(), 0L)));
+            if (!stepExecution.getStepName().contains(":partition")) {
+                items += stepExecution.getReadCount();
+            }
+        }
+
+        long durationMillis = millisBetween(jobExecution.getStartTime(), jobExecution.getEndTime());
+        long sqlStatements = sqlStatementsByStep.values().stream().mapToLong(Long::longValue).sum();
+        return new JobPerformanceReport(
+                jobExecution.getJobInstance().getJobName(),
+                rows,
+                jobExecution.getStatus().name(),
+                LocalDateTime.now(),
+                durationMillis,
+                items,
+                perSecond(items, durationMillis),
+                peakHeapBytes,
+                sqlStatements,
+                steps);
+    }
+
+    public String baselineKey() {
+        return jobName + "@" + rows;
+    }
+
+    public Path writeTo(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve(jobName + "-" + rows + ".json");
+        OBJECT_MAPPER.writeValue(file.toFile(), this);
+        return file;
+    }
+
+    private static long millisBetween(LocalDateTime start, LocalDateTime end) {
+        if (start == null || end == null) {
+            return 0;
+        }
+        return Duration.between(start, end).toMillis();
+    }
+
+    private static double perSecond(long count, long millis) {
+        return millis > 0 ? count * 1000.0 / millis : 0.0;
+    }
+}
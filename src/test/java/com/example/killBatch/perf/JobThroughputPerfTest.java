@@ -0,0 +1,229 @@
+package com.example.killBatch.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Job 처리량 회귀 테스트 (@Tag("perf") -> 기본 test 태스크에서 제외)
+ *
+ * 실행: ./gradlew perfTest -Pperf.rows=100000,1000000 -Pperf.tolerance=20
+ * 기준치 기록: ./gradlew perfTest -Pperf.record -> build/perf/baseline.json (PerformanceBaseline 참고)
+ *
+ * 케이스마다
+ * 1. 대상 테이블 비우기 -> syntheticDataGeneratorJob으로 rows 건 생성 (측정 제외)
+ * 2. 대상 Job 실행 -> items/sec, 최대 힙, Step별 SQL 실행 횟수 측정
+ * 3. build/perf/{jobName}-{rows}.json 기록
+ * 4. perf/baseline.json 기준치 대비 허용 범위를 벗어나면 실패
+ *      -> 기준치 없는 케이스도 실패 (-Pperf.record 실행 시에는 비교 없이 기록만)
+ *
+ * 대상 Job - rows 를 victims, orders, infearlearn_students 행 수로 생성해 읽는 Job
+ * syntheticDataGeneratorJob 자체도 케이스로 측정 (적재 처리량)
+ *
+ * 제외한 Job과 이유
+ * - jdbcCursorItemReaderTestJob, jdbcPagingItemReaderTestJob, jdbcCursorPartitionTestJob
+ *      -> jdbcPagingPartitionTestJob과 같은 victims 조회 경로 (Reader만 다름), 케이스 수 대비 얻는 정보가 적음
+ * - jpa*TestJob, itemProcessorTestJob, incrementalPostJob
+ *      -> posts/reports 대상, 게시글당 신고 수와 조회 기간(startDateTime, endDateTime)을 정한 케이스가 아직 없음
+ * - retry*, skip*, bisectingSkipItemWriterTestJob, deferredRetryItemWriterTestJob
+ *      -> 고정 아이템 + 의도적인 예외 주입, 처리량이 데이터 양이 아닌 재시도/스킵 횟수로 결정
+ * - incrementalVictimJob -> 워터마크 이후 변경분만 읽음, 두 번째 실행부터는 데이터 양과 무관
+ * - brainwashedVictimIngestJob, deadLetterReplayJob -> 입력이 파일 / 데드레터 테이블 (생성기 범위 밖)
+ * - helloWorldJob, brutalizedSystemJob, processTerminatorJob, zombieCleanupJob,
+ *   executionContextAccessJob, scopeTestJob, stepScopeTestJob, listenerTestJob
+ *      -> 학습용 Tasklet / 리스너 예제, 처리할 데이터 없음
+ */
+@Tag("perf")
+@SpringBatchTest
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:perfdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.com.example.killBatch=WARN",
+        "logging.level.org.springframework.batch.item.database=WARN"
+})
+@ActiveProfiles("test")
+class JobThroughputPerfTest {
+
+    private static final Logger log = LoggerFactory.getLogger(JobThroughputPerfTest.class);
+
+    private static final String GENERATOR_JOB = "syntheticDataGeneratorJob";
+    private static final long SEED = 42L;
+
+    private static final List<String> JOBS = List.of(
+            GENERATOR_JOB,
+            "inFearLearnStudentsBrainWashJob",
+            "inFearLearnStudentsShardedBrainWashJob",
+            "jdbcPagingPartitionTestJob",
+            "jdbcBatchItemWriterTestJob"
+    );
+
+    private static PerformanceBaseline baseline;
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Value("${kill-batch.perf.tolerance-percent:20}")
+    private double tolerancePercent;
+
+    @Value("${kill-batch.perf.output-dir:build/perf}")
+    private Path outputDirectory;
+
+    @Value("${kill-batch.perf.record:false}")
+    private boolean record;
+
+    @TempDir
+    private Path tempDir;
+
+    @BeforeAll
+    static void loadBaseline() throws Exception {
+        baseline = PerformanceBaseline.load();
+    }
+
+    static Stream<Arguments> cases() {
+        String rows = System.getProperty("kill-batch.perf.rows", "100000");
+        return JOBS.stream().flatMap(job -> Arrays.stream(rows.split(","))
+                .map(String::trim)
+                .map(count -> Arguments.of(job, Long.parseLong(count))));
+    }
+
+    @ParameterizedTest(name = "{0} - {1}건")
+    @MethodSource("cases")
+    void jobThroughputShouldStayWithinBaseline(String jobName, long rows) throws Exception {
+        // Given
+        resetTables();
+        if (!GENERATOR_JOB.equals(jobName)) {
+            launch(GENERATOR_JOB, generatorParameters(rows));
+        }
+
+        // When
+        List<MemoryPoolMXBean> heapPools = resetHeapPeaks();
+        sqlStatementCounter.reset();
+        JobExecution jobExecution = launch(jobName, jobParameters(jobName, rows));
+        long peakHeapBytes = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+
+        // Then
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+        JobPerformanceReport report = JobPerformanceReport.of(
+                jobExecution, rows, peakHeapBytes, sqlStatementCounter.snapshot());
+        Path reportFile = report.writeTo(outputDirectory);
+        log.warn("{} - {} items/s, peak heap {} MB, SQL {}회 -> {}", report.baselineKey(),
+                Math.round(report.itemsPerSecond()), report.peakHeapBytes() >> 20, report.sqlStatements(), reportFile);
+
+        if (record) {
+            log.warn("{} - 기준치 기록 -> {}", report.baselineKey(), PerformanceBaseline.record(outputDirectory, report));
+            return;
+        }
+        assertThat(baseline.contains(report))
+                .as("%s 기준치 없음 (perf/baseline.json) - -Pperf.record 로 측정 후 추가", report.baselineKey())
+                .isTrue();
+        assertThat(baseline.violations(report, tolerancePercent))
+                .as("%s 성능 기준치 위반", report.baselineKey())
+                .isEmpty();
+    }
+
+    private JobExecution launch(String jobName, JobParameters jobParameters) throws Exception {
+        jobLauncherTestUtils.setJob(applicationContext.getBean(jobName, Job.class));
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+        assertThat(jobExecution.getStatus()).as("%s 실행", jobName).isEqualTo(BatchStatus.COMPLETED);
+        return jobExecution;
+    }
+
+    private JobParameters jobParameters(String jobName, long rows) {
+        return switch (jobName) {
+            case GENERATOR_JOB -> generatorParameters(rows);
+            case "inFearLearnStudentsBrainWashJob", "inFearLearnStudentsShardedBrainWashJob" ->
+                    jobLauncherTestUtils.getUniqueJobParametersBuilder()
+                            .addString("filePath", tempDir.toString())
+                            .toJobParameters();
+            default -> jobLauncherTestUtils.getUniqueJobParameters();
+        };
+    }
+
+    private JobParameters generatorParameters(long rows) {
+        return new JobParametersBuilder(jobLauncherTestUtils.getUniqueJobParameters())
+                .addLong("seed", SEED)
+                .addLong("victims", rows)
+                .addLong("orders", rows)
+                .addLong("students", rows)
+                .toJobParameters();
+    }
+
+    private void resetTables() {
+        jdbcTemplate.execute("TRUNCATE TABLE victims");
+        jdbcTemplate.execute("TRUNCATE TABLE orders");
+        jdbcTemplate.execute("TRUNCATE TABLE infearlearn_students RESTART IDENTITY");
+    }
+
+    private static List<MemoryPoolMXBean> resetHeapPeaks() {
+        System.gc();
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        return heapPools;
+    }
+
+    /**
+     * 애플리케이션 DataSource를 SqlStatementCounter로 감쌈
+     * -> Job, Step, Reader, Writer 모두 감싼 DataSource를 주입받음
+     */
+    @TestConfiguration
+    static class SqlStatementCounterConfig {
+
+        @Bean
+        static SqlStatementCounter sqlStatementCounter() {
+            return new SqlStatementCounter();
+        }
+
+        @Bean
+        static BeanPostProcessor sqlStatementCountingDataSourcePostProcessor(SqlStatementCounter sqlStatementCounter) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? sqlStatementCounter.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.killBatch.perf;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 성능 기준치 - classpath:perf/baseline.json
+ *
+ * 형식 - "jobName@rows" -> 기준치 (Budget의 null 필드는 비교하지 않음)
+ * {
+ *   "inFearLearnStudentsBrainWashJob@100000": {"itemsPerSecond": 50000, "sqlStatements": 120, "peakHeapBytes": 268435456}
+ * }
+ *
+ * 허용 범위 (tolerancePercent)
+ * - itemsPerSecond - 기준치보다 tolerance% 이상 느려지면 위반
+ * - sqlStatements, peakHeapBytes - 기준치보다 tolerance% 이상 늘어나면 위반
+ *
+ * 기준치 없는 케이스 -> 실패 (-Pperf.record 로 실행한 경우만 기록 후 통과)
+ *
+ * 기준치 갱신
+ * 1. ./gradlew perfTest -Pperf.record -> build/perf/baseline.json 에 측정값 누적
+ * 2. 같은 장비에서 측정한 build/perf/baseline.json 을 src/test/resources/perf/baseline.json 으로 복사
+ */
+public class PerformanceBaseline {
+
+    private static final String LOCATION = "perf/baseline.json";
+    private static final String RECORD_FILE_NAME = "baseline.json";
+
+    private final Map<String, Budget> budgets;
+
+    private PerformanceBaseline(Map<String, Budget> budgets) {
+        this.budgets = budgets;
+    }
+
+    public static PerformanceBaseline load() throws IOException {
+        try (InputStream in = PerformanceBaseline.class.getClassLoader().getResourceAsStream(LOCATION)) {
+            if (in == null) {
+                return new PerformanceBaseline(Map.of());
+            }
+            return new PerformanceBaseline(new ObjectMapper().readValue(in, new TypeReference<>() {
+            }));
+        }
+    }
+
+    public boolean contains(JobPerformanceReport report) {
+        return budgets.containsKey(report.baselineKey());
+    }
+
+    public List<String> violations(JobPerformanceReport report, double tolerancePercent) {
+        Budget budget = budgets.get(report.baselineKey());
+        List<String> violations = new ArrayList<>();
+        if (budget == null) {
+            return violations;
+        }
+
+        double tolerance = tolerancePercent / 100.0;
+        if (budget.itemsPerSecond() != null
+                && report.itemsPerSecond() < budget.itemsPerSecond() * (1 - tolerance)) {
+            violations.add(String.format("itemsPerSecond %.1f < 기준치 %.1f (-%.0f%% 허용)",
+                    report.itemsPerSecond(), budget.itemsPerSecond(), tolerancePercent));
+        }
+        if (budget.sqlStatements() != null
+                && report.sqlStatements() > budget.sqlStatements() * (1 + tolerance)) {
+            violations.add(String.format("sqlStatements %d > 기준치 %d (+%.0f%% 허용)",
+                    report.sqlStatements(), budget.sqlStatements(), tolerancePercent));
+        }
+        if (budget.peakHeapBytes() != null
+                && report.peakHeapBytes() > budget.peakHeapBytes() * (1 + tolerance)) {
+            violations.add(String.format("peakHeapBytes %d > 기준치 %d (+%.0f%% 허용)",
+                    report.peakHeapBytes(), budget.peakHeapBytes(), tolerancePercent));
+        }
+        return violations;
+    }
+
+    /**
+     * 측정값을 outputDirectory/baseline.json 에 추가 (같은 키는 덮어씀)
+     * -> 케이스마다 호출되므로 기존 파일을 읽어 병합
+     */
+    public static Path record(Path outputDirectory, JobPerformanceReport report) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Path file = outputDirectory.resolve(RECORD_FILE_NAME);
+        Map<String, Budget> recorded = new TreeMap<>();
+        if (Files.exists(file)) {
+            recorded.putAll(objectMapper.readValue(file.toFile(), new TypeReference<Map<String, Budget>>() {
+            }));
+        }
+        recorded.put(report.baselineKey(), new Budget(
+                report.itemsPerSecond(), report.sqlStatements(), report.peakHeapBytes()));
+
+        Files.createDirectories(outputDirectory);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), recorded);
+        return file;
+    }
+
+    public record Budget(Double itemsPerSecond, Long sqlStatements, Long peakHeapBytes) {
+    }
+}
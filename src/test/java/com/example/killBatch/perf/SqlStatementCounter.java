@@ -0,0 +1,92 @@
+package com.example.killBatch.perf;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+
+/**
+ * Step별 SQL 실행 횟수 집계 - DataSource를 감싸서 Statement.execute* 호출을 센다
+ *
+ * 집계 기준
+ * - 호출 스레드의 현재 Step (StepSynchronizationManager) 이름
+ *      -> 파티션 워커는 워커 StepExecution 이름 (xxxWorker:partition0)
+ *      -> Step 실행 중 JobRepository의 메타데이터 갱신도 해당 Step에 포함
+ * - Step 밖(Job 시작/종료, 테스트 데이터 준비)의 호출 -> NO_STEP
+ * - executeBatch는 1회 (DB 왕복 기준)
+ */
+public class SqlStatementCounter {
+
+    public static final String NO_STEP = "(no step)";
+
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+    public DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof Connection connection) {
+                return proxy(Connection.class, connection, this::invokeOnConnection);
+            }
+            return result;
+        });
+    }
+
+    public void reset() {
+        counts.clear();
+    }
+
+    public Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        counts.forEach((step, count) -> snapshot.put(step, count.sum()));
+        return snapshot;
+    }
+
+    private Object invokeOnConnection(Object target, Method method, Object[] args) throws Throwable {
+        Object result = invoke(target, method, args);
+        if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+            // Statement / PreparedStatement / CallableStatement -> 메서드 반환 타입 그대로 감쌈
+            return proxy(method.getReturnType(), statement, this::invokeOnStatement);
+        }
+        return result;
+    }
+
+    private Object invokeOnStatement(Object target, Method method, Object[] args) throws Throwable {
+        if (method.getName().startsWith("execute")) {
+            counts.computeIfAbsent(currentStepName(), step -> new LongAdder()).increment();
+        }
+        return invoke(target, method, args);
+    }
+
+    private static String currentStepName() {
+        StepContext context = StepSynchronizationManager.getContext();
+        return context != null ? context.getStepName() : NO_STEP;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<?> type, Object target, TargetInvocation invocation) {
+        InvocationHandler handler = (proxy, method, args) -> invocation.invoke(target, method, args);
+        return (T) Proxy.newProxyInstance(SqlStatementCounter.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    @FunctionalInterface
+    private interface TargetInvocation {
+        Object invoke(Object target, Method method, Object[] args) throws Throwable;
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.killBatch.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.killBatch.test.InFearLearnStudentsBrainWashJobConfig.InFearLearnStudents;
+import jakarta.annotation.PostConstruct;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 샤드 병렬 출력 모드 통합 테스트
+ * 병합 결과 -> 단일 스레드 Job의 기대 결과(expected_brainwashed_victims.jsonl)와 바이트 단위로 동일해야 한다
+ */
+@SpringBatchTest
+@SpringBootTest(properties = "kill-batch.partition.grid-size=3")
+@ActiveProfiles("test")
+class InFearLearnStudentsShardedBrainWashJobTest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Job inFearLearnStudentsShardedBrainWashJob;
+
+    @TempDir
+    private Path tempDir;
+
+    private static final List<InFearLearnStudents> TEST_STUDENTS = List.of(
+            new InFearLearnStudents("스프링 핵심 원*", "세계관 최강자", "MURDER_YOUR_IGNORANCE"),
+            new InFearLearnStudents("고성* JPA & Hibernate", "자바계의 독재자", "SLAUGHTER_YOUR_LIMITS"),
+            new InFearLearnStudents("토*의 스프링 부트", "원조 처형자", "EXECUTE_YOUR_POTENTIAL"),
+            new InFearLearnStudents("스프링 시큐리티 완전 정*", "무결점 학살자", "TERMINATE_YOUR_EXCUSES"),
+            new InFearLearnStudents("자바 프로그래밍 입* 강좌 (old ver.)", "InFearLearn", "RESIST_BRAINWASH") // 💀 이 놈은 ItemProcessor 필터링 대상
+    );
+
+    @PostConstruct
+    public void configureJobLauncherTestUtils() throws Exception {
+        jobLauncherTestUtils.setJob(inFearLearnStudentsShardedBrainWashJob);
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.execute("TRUNCATE TABLE infearlearn_students RESTART IDENTITY");
+    }
+
+    @Test
+    @DisplayName("💀 샤드 병합 결과가 단일 스레드 결과와 동일")
+    void shouldMergeShardsIntoIdenticalFile() throws Exception {
+        // Given
+        insertTestStudents();
+        JobParameters jobParameters = jobLauncherTestUtils.getUniqueJobParametersBuilder()
+                .addString("filePath", tempDir.toString())
+                .toJobParameters();
+
+        // When
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        // Then
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(jobExecution.getExitStatus()).isEqualTo(ExitStatus.COMPLETED);
+
+        Path expectedFile = Paths.get("src/test/resources/expected_brainwashed_victims.jsonl");
+        Path actualFile = tempDir.resolve("brainwashed_victims.jsonl");
+
+        assertThat(Files.readAllBytes(actualFile)).isEqualTo(Files.readAllBytes(expectedFile));
+        assertThat(tempDir.resolve("brainwashed_victims.parts")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("💀 이전 실행의 잔여 샤드는 병합하지 않음")
+    void shouldIgnoreStaleShardsFromPreviousRuns() throws Exception {
+        // Given - 더 큰 gridSize로 실행했던 흔적
+        insertTestStudents();
+        Path shardDirectory = Files.createDirectories(tempDir.resolve("brainwashed_victims.parts"));
+        Files.writeString(shardDirectory.resolve("part-00007.jsonl"), "{\"stale\":true}\n");
+        JobParameters jobParameters = jobLauncherTestUtils.getUniqueJobParametersBuilder()
+                .addString("filePath", tempDir.toString())
+                .toJobParameters();
+
+        // When
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        // Then
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+        Path expectedFile = Paths.get("src/test/resources/expected_brainwashed_victims.jsonl");
+        Path actualFile = tempDir.resolve("brainwashed_victims.jsonl");
+
+        assertThat(Files.readAllBytes(actualFile)).isEqualTo(Files.readAllBytes(expectedFile));
+    }
+
+    @Test
+    @DisplayName("💀 keepShards - 샤드와 manifest 유지")
+    void shouldKeepShardsWithManifest() throws Exception {
+        // Given
+        insertTestStudents();
+        JobParameters jobParameters = jobLauncherTestUtils.getUniqueJobParametersBuilder()
+                .addString("filePath", tempDir.toString())
+                .addJobParameter("keepShards", true, Boolean.class)
+                .toJobParameters();
+
+        // When
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        // Then
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+        Path shardDirectory = tempDir.resolve("brainwashed_victims.parts");
+        assertThat(shardDirectory.resolve("manifest.json")).exists();
+        assertThat(shardDirectory.resolve("part-00000.jsonl")).exists();
+        assertThat(tempDir.resolve("brainwashed_victims.jsonl")).doesNotExist();
+    }
+
+    private void insertTestStudents() {
+        TEST_STUDENTS.forEach(student ->
+                jdbcTemplate.update("INSERT INTO infearlearn_students (current_lecture, instructor, persuasion_method) VALUES (?, ?, ?)",
+                        student.getCurrentLecture(), student.getInstructor(), student.getPersuasionMethod())
+        );
+    }
+}
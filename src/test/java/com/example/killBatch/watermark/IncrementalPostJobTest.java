@@ -0,0 +1,132 @@
+package com.example.killBatch.watermark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import com.example.killBatch.jpaBatch.StatelessSessionBlockedPostWriter;
+import jakarta.annotation.PostConstruct;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+/**
+ * 워터마크 증분 조회 통합 테스트
+ * Step 실행 중 커밋된 신고 -> 이번 실행에서 놓치더라도 다음 실행에서 반드시 조회되어야 한다
+ */
+@SpringBatchTest
+@SpringBootTest
+@ActiveProfiles("test")
+class IncrementalPostJobTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final int POSTS = 6;
+    private static final int REPORTS_PER_POST = 3;
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private WatermarkRepository watermarkRepository;
+
+    @Autowired
+    private Job incrementalPostJob;
+
+    @MockitoSpyBean
+    private StatelessSessionBlockedPostWriter statelessSessionBlockedPostWriter;
+
+    @PostConstruct
+    public void configureJobLauncherTestUtils() throws Exception {
+        jobLauncherTestUtils.setJob(incrementalPostJob);
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.execute("DELETE FROM blocked_posts");
+        jdbcTemplate.execute("DELETE FROM reports");
+        jdbcTemplate.execute("DELETE FROM posts");
+        jdbcTemplate.execute("DELETE FROM batch_watermark");
+    }
+
+    @Test
+    @DisplayName("💀 Step 도중 커밋된 신고는 다음 실행에서 조회")
+    void shouldPickUpReportsCommittedDuringStepOnNextRun() throws Exception {
+        // Given - 게시글 6개 (페이지 크기 5 -> 2페이지), 게시글당 신고 3건
+        insertPostsWithReports();
+
+        // 첫 청크 쓰기 도중 신고 추가
+        // - 게시글 1 (이미 지나간 페이지)
+        // - 게시글 6 (아직 읽지 않은 페이지, 더 늦은 시각) -> 읽은 최대값 방식이면 워터마크가 이 신고까지 올라감
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        AtomicBoolean inserted = new AtomicBoolean();
+        doAnswer(invocation -> {
+            if (inserted.compareAndSet(false, true)) {
+                insertReport(101L, 1L, now);
+                insertReport(102L, 6L, now.plusSeconds(1));
+            }
+            return invocation.callRealMethod();
+        }).when(statelessSessionBlockedPostWriter).write(any());
+
+        // When - 1차 실행
+        JobExecution first = jobLauncherTestUtils.launchJob(
+                jobLauncherTestUtils.getUniqueJobParametersBuilder().toJobParameters());
+
+        // Then - 시작 시점 상한(마지막 기존 신고)까지만 워터마크 기록
+        assertThat(first.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(readCount(first)).isEqualTo(POSTS);
+        assertThat(watermarkRepository.find("posts.reported")).contains(
+                new Watermark(BASE.plusMinutes(POSTS * REPORTS_PER_POST), POSTS * REPORTS_PER_POST));
+
+        // When - 2차 실행
+        JobExecution second = jobLauncherTestUtils.launchJob(
+                jobLauncherTestUtils.getUniqueJobParametersBuilder().toJobParameters());
+
+        // Then - 1차 실행 도중 추가된 신고의 게시글 1, 6 모두 조회
+        assertThat(second.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(readCount(second)).isEqualTo(2);
+        assertThat(watermarkRepository.find("posts.reported")).contains(
+                new Watermark(now.plusSeconds(1), 102L));
+    }
+
+    private void insertPostsWithReports() {
+        long reportId = 1;
+        for (long postId = 1; postId <= POSTS; postId++) {
+            jdbcTemplate.update("INSERT INTO posts (id, title, content, writer) VALUES (?, ?, ?, ?)",
+                    postId, "post-" + postId, "content-" + postId, "writer-" + postId);
+            for (int i = 0; i < REPORTS_PER_POST; i++, reportId++) {
+                insertReport(reportId, postId, BASE.plusMinutes(reportId));
+            }
+        }
+    }
+
+    private void insertReport(long reportId, long postId, LocalDateTime reportedAt) {
+        // ILLEGAL(3.0) x 레벨 5(1.0) x 3건 -> 차단 점수 7 이상 -> 매 청크 Writer 호출
+        jdbcTemplate.update("""
+                INSERT INTO reports (id, post_id, report_type, reporter_level, evidence_data, reported_at)
+                VALUES (?, ?, 'ILLEGAL', 5, ?, ?)
+                """, reportId, postId, "evidence-" + reportId, Timestamp.valueOf(reportedAt));
+    }
+
+    private long readCount(JobExecution jobExecution) {
+        return jobExecution.getStepExecutions().stream()
+                .mapToLong(StepExecution::getReadCount)
+                .sum();
+    }
+}
@@ -5,4 +5,51 @@ CREATE TABLE IF NOT EXISTS infearlearn_students (
     current_lecture VARCHAR(255),
     instructor VARCHAR(255),
     persuasion_method VARCHAR(255)
-);
\ No newline at end of file
+);
+
+CREATE TABLE IF NOT EXISTS batch_watermark (
+    name VARCHAR(100) PRIMARY KEY,
+    watermark_at TIMESTAMP NOT NULL,
+    watermark_id BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS brainwashed_victims (
+    victim_id BIGINT PRIMARY KEY,
+    original_lecture VARCHAR(255),
+    original_instructor VARCHAR(255),
+    brainwash_message VARCHAR(1000),
+    new_master VARCHAR(255),
+    conversion_method VARCHAR(255),
+    brainwash_status VARCHAR(255),
+    next_action VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS victims (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(255),
+    process_id VARCHAR(255),
+    terminated_at TIMESTAMP,
+    status VARCHAR(50)
+);
+
+CREATE TABLE IF NOT EXISTS orders (
+    id BIGINT PRIMARY KEY,
+    customer_id BIGINT,
+    order_datetime TIMESTAMP,
+    status VARCHAR(255),
+    shipping_id VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS batch_dead_letter (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    job_execution_id BIGINT NOT NULL,
+    step_execution_id BIGINT NOT NULL,
+    step_name VARCHAR(100) NOT NULL,
+    phase VARCHAR(10) NOT NULL,
+    exception_class VARCHAR(255) NOT NULL,
+    exception_message VARCHAR(2000),
+    payload TEXT,
+    created_at TIMESTAMP NOT NULL,
+    replayed_at TIMESTAMP
+);